@@ -1,11 +1,14 @@
 package com.example.auth.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -52,20 +55,35 @@ public class RedisConfig {
 
     /**
      * RedisTemplate 설정 (Object 용)
-     * 기존 다른 기능들에서 사용할 Object 기반 RedisTemplate
+     * 2단계 캐시(L2) 등 객체를 JSON으로 저장하는 기능에서 사용하는 RedisTemplate
+     * 애플리케이션 ObjectMapper를 사용하여 날짜 타입(ZonedDateTime 등)도 직렬화되며,
+     * 타입 정보를 저장하지 않으므로 조회 측에서 원하는 타입으로 변환해서 사용합니다.
      */
     @Bean
-    public RedisTemplate<String, Object> redisObjectTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisObjectTemplate(RedisConnectionFactory connectionFactory,
+                                                             ObjectMapper objectMapper) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
-        
+
         // Key는 String, Value는 Object로 직렬화
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper.copy());
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(jsonSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer());
-        
+        template.setHashValueSerializer(jsonSerializer);
+
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * Redis Pub/Sub 리스너 컨테이너
+     * 여러 서버 노드 간 로컬 캐시 무효화 메시지를 수신하는 데 사용합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
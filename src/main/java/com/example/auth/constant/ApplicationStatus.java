@@ -46,6 +46,19 @@ public enum ApplicationStatus {
         }
     }
     
+    /**
+     * 다른 상태로 변경할 수 있는지 확인
+     * 대기 중인 신청은 선정/거절, 선정된 신청은 거절/완료, 거절된 신청은 선정으로만 변경할 수 있습니다.
+     */
+    public boolean canTransitionTo(ApplicationStatus target) {
+        return switch (this) {
+            case PENDING -> target == APPROVED || target == REJECTED;
+            case APPROVED -> target == REJECTED || target == COMPLETED;
+            case REJECTED -> target == APPROVED;
+            case COMPLETED -> false;
+        };
+    }
+
     /**
      * 대문자 문자열로 반환
      */
@@ -0,0 +1,52 @@
+package com.example.auth.constant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 캠페인 목록 정렬 기준을 나타내는 열거형
+ */
+@Schema(description = "캠페인 목록 정렬 기준")
+public enum CampaignSortType {
+
+    @Schema(description = "최신순 (등록일 내림차순)")
+    LATEST("latest", "최신순"),
+
+    @Schema(description = "인기순 (대기 신청자 수 내림차순)")
+    POPULAR("popular", "인기순"),
+
+    @Schema(description = "마감 임박순 (신청 마감일 오름차순)")
+    DEADLINE("deadline", "마감 임박순");
+
+    private final String value;
+    private final String description;
+
+    CampaignSortType(String value, String description) {
+        this.value = value;
+        this.description = description;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 요청 파라미터 문자열에서 CampaignSortType으로 변환
+     * 알 수 없는 값인 경우 최신순을 반환합니다.
+     */
+    public static CampaignSortType fromString(String value) {
+        if (value == null) {
+            return LATEST; // 기본값
+        }
+
+        for (CampaignSortType type : CampaignSortType.values()) {
+            if (type.value.equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        return LATEST; // 잘못된 값인 경우 기본값 반환
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.auth.constant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 페이지 목록의 전체 건수 계산 방식을 나타내는 열거형
+ */
+@Schema(description = "전체 건수 계산 방식")
+public enum CountMode {
+
+    @Schema(description = "정확한 건수 (COUNT 쿼리 실행)")
+    EXACT("exact", "정확한 건수"),
+
+    @Schema(description = "근사 건수 (캐시된 집계 사용, COUNT 쿼리 생략)")
+    APPROXIMATE("approximate", "근사 건수");
+
+    private final String value;
+    private final String description;
+
+    CountMode(String value, String description) {
+        this.value = value;
+        this.description = description;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 요청 파라미터 문자열에서 CountMode로 변환
+     * 알 수 없는 값인 경우 정확한 건수를 반환합니다. (근사 건수는 명시적으로 요청한 경우에만 사용)
+     */
+    public static CountMode fromString(String value) {
+        if (value == null) {
+            return EXACT; // 기본값
+        }
+
+        for (CountMode mode : CountMode.values()) {
+            if (mode.value.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        return EXACT; // 잘못된 값인 경우 기본값 반환
+    }
+}
@@ -3,6 +3,7 @@ package com.example.auth.controller;
 import com.example.auth.common.BaseResponse;
 import com.example.auth.dto.banner.BannerImageResponse;
 import com.example.auth.service.BannerImageService;
+import com.example.auth.util.HttpCacheUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -39,6 +40,7 @@ public class BannerImageController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
@@ -47,8 +49,16 @@ public class BannerImageController {
             log.info("배너 이미지 목록 조회 요청");
 
             List<BannerImageResponse> banners = bannerImageService.getAllBanners();
-            
-            return ResponseEntity.ok(BaseResponse.success(banners, "배너 이미지 목록 조회 성공"));
+
+            // 배너에는 수정 시간이 없으므로 내용 해시로 ETag를 만들어 변경이 없으면 304로 응답
+            String eTag = HttpCacheUtils.strongETag(banners.stream()
+                    .map(banner -> banner.getId() + ":" + banner.getBannerUrl() + ":" + banner.getRedirectUrl())
+                    .toArray());
+
+            return ResponseEntity.ok()
+                    .cacheControl(HttpCacheUtils.revalidate())
+                    .eTag(eTag)
+                    .body(BaseResponse.success(banners, "배너 이미지 목록 조회 성공"));
         } catch (Exception e) {
             log.error("배너 이미지 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -1,6 +1,7 @@
 package com.example.auth.controller;
 
 import com.example.auth.common.BaseResponse;
+import com.example.auth.constant.ApplicationStatus;
 import com.example.auth.constant.UserRole;
 import com.example.auth.domain.Campaign;
 import com.example.auth.dto.application.*;
@@ -8,6 +9,8 @@ import com.example.auth.dto.common.PageResponse;
 import com.example.auth.exception.*;
 import com.example.auth.repository.CampaignApplicationRepository;
 import com.example.auth.repository.CampaignRepository;
+import com.example.auth.service.CampaignApplicationAdmissionService;
+import com.example.auth.service.CampaignApplicationQueueService;
 import com.example.auth.service.CampaignApplicationService;
 import com.example.auth.util.TokenUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,11 +23,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +47,8 @@ import java.util.stream.Collectors;
 public class CampaignApplicationController {
 
     private final CampaignApplicationService applicationService;
+    private final CampaignApplicationQueueService applicationQueueService;
+    private final CampaignApplicationAdmissionService admissionService;
     private final TokenUtils tokenUtils;
     private final CampaignApplicationRepository applicationRepository;
     private final CampaignRepository campaignRepository;
@@ -57,9 +67,16 @@ public class CampaignApplicationController {
                     "- **PENDING**: 신청 접수 상태 (기본값)\n" +
                     "- **APPROVED**: 선정된 신청\n" +
                     "- **REJECTED**: 거절된 신청\n" +
-                    "- **COMPLETED**: 체험 및 리뷰까지 완료한 신청"
+                    "- **COMPLETED**: 체험 및 리뷰까지 완료한 신청\n\n" +
+                    "### 대기열 모드\n" +
+                    "- 서버 설정으로 대기열 모드가 켜져 있으면 신청을 대기열에 접수하고 202와 함께 **QUEUED** 상태와 idempotencyKey를 응답합니다.\n" +
+                    "- 접수된 신청은 잠시 후 DB에 반영되며, 반영 여부는 `/check`로 확인할 수 있습니다. (반영 전 QUEUED, 반영 후 PENDING)\n" +
+                    "- 반영 전에 같은 캠페인에 다시 신청하면 처음 발급된 idempotencyKey를 그대로 응답합니다.\n\n" +
+                    "### 신청 유입 제어\n" +
+                    "- 한 캠페인에 짧은 시간 동안 신청이 몰리면 429와 Retry-After 헤더(초)로 응답합니다. 헤더의 시간 이후 다시 요청해주세요."
     )
     @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "대기열 접수 (대기열 모드)"),
             @ApiResponse(
                     responseCode = "201",
                     description = "신청 성공",
@@ -93,6 +110,7 @@ public class CampaignApplicationController {
             @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 또는 이미 신청함"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "404", description = "캠페인 또는 사용자를 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "캠페인 신청 한도 초과 (Retry-After 헤더 참고)"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PostMapping
@@ -119,6 +137,23 @@ public class CampaignApplicationController {
                         .body(BaseResponse.fail(errorMessage, "INSUFFICIENT_ROLE", HttpStatus.FORBIDDEN.value()));
             }
 
+            // 캠페인별 신청 한도 확인 (한도 초과 시 DB 접근 전에 거절)
+            admissionService.acquire(request.getCampaignId());
+
+            // 대기열 모드: DB에 쓰지 않고 접수만 한 뒤 바로 응답
+            if (applicationQueueService.isEnabled()) {
+                var queued = applicationService.enqueueApplication(request.getCampaignId(), userId);
+                ApplicationListResponseWrapper.ApplicationInfoDTO queuedDTO =
+                        ApplicationListResponseWrapper.ApplicationInfoDTO.queued(queued.campaignId(), queued.campaignTitle(),
+                                queued.userId(), queued.userNickname(), queued.idempotencyKey());
+
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .body(BaseResponse.success(
+                                ApplicationSingleResponseWrapper.of(queuedDTO),
+                                "캠페인 신청이 접수되었어요"
+                        ));
+            }
+
             ApplicationResponse applicationResponse =
                     applicationService.createApplication(request.getCampaignId(), userId);
 
@@ -139,6 +174,11 @@ public class CampaignApplicationController {
             log.warn("인증 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(BaseResponse.fail(e.getMessage(), "UNAUTHORIZED", HttpStatus.UNAUTHORIZED.value()));
+        } catch (AdmissionRejectedException e) {
+            log.debug("캠페인 신청 한도 초과: campaignId={}, retryAfter={}s", request.getCampaignId(), e.getRetryAfterSeconds());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(BaseResponse.fail(e.getMessage(), "TOO_MANY_APPLICATIONS", HttpStatus.TOO_MANY_REQUESTS.value()));
         } catch (IllegalStateException e) {
             log.warn("캠페인 신청 실패 (비즈니스 로직): {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -492,6 +532,20 @@ public class CampaignApplicationController {
                         ApplicationSingleResponseWrapper.of(infoDTO),
                         "신청 상태를 확인했어요"
                 ));
+            }
+
+            // 대기열에 접수되어 아직 반영되지 않은 신청
+            var queued = applicationService.findQueuedApplication(campaignId, userId);
+            if (queued.isPresent()) {
+                ApplicationListResponseWrapper.ApplicationInfoDTO queuedDTO =
+                        ApplicationListResponseWrapper.ApplicationInfoDTO.queued(queued.get().campaignId(),
+                                queued.get().campaignTitle(), queued.get().userId(), queued.get().userNickname(),
+                                queued.get().idempotencyKey());
+
+                return ResponseEntity.ok(BaseResponse.success(
+                        ApplicationSingleResponseWrapper.of(queuedDTO),
+                        "신청 상태를 확인했어요"
+                ));
             } else {
                 ApplicationListResponseWrapper.ApplicationInfoDTO notAppliedDTO = 
                         ApplicationListResponseWrapper.ApplicationInfoDTO.notApplied();
@@ -682,4 +736,151 @@ public class CampaignApplicationController {
                     .body(BaseResponse.fail("신청자 목록 조회 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
         }
     }
+
+    @Operation(
+            summary = "신청 상태 일괄 변경",
+            description = "기업 회원이 자신의 캠페인 신청자 여러 명을 한 번에 선정/거절/완료 처리합니다.\n\n" +
+                    "### 변경 가능한 상태\n" +
+                    "- **PENDING** → APPROVED, REJECTED\n" +
+                    "- **APPROVED** → REJECTED, COMPLETED\n" +
+                    "- **REJECTED** → APPROVED\n\n" +
+                    "### 처리 방식\n" +
+                    "- 요청한 신청은 모두 변경되거나 모두 변경되지 않습니다.\n" +
+                    "- 이미 요청한 상태인 신청은 변경하지 않고 unchangedCount에 포함됩니다.\n" +
+                    "- 처리 중 다른 요청이 신청 상태를 바꾸면 409로 응답하며, 목록을 다시 조회한 뒤 요청해주세요."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 상태 또는 변경할 수 없는 상태의 신청 포함"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (CLIENT 권한 없음 또는 본인 캠페인이 아님)"),
+            @ApiResponse(responseCode = "404", description = "캠페인이 없거나 캠페인에 속하지 않은 신청 포함"),
+            @ApiResponse(responseCode = "409", description = "처리 중 다른 요청이 신청 상태를 변경함"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PatchMapping("/campaigns/{campaignId}/status")
+    public ResponseEntity<?> updateApplicationStatuses(
+            @Parameter(description = "Bearer 토큰", required = true)
+            @RequestHeader("Authorization") String bearerToken,
+            @Parameter(description = "캠페인 ID", required = true, example = "42")
+            @PathVariable Long campaignId,
+            @Valid @RequestBody ApplicationBulkStatusRequest request
+    ) {
+        try {
+            Long userId = tokenUtils.getUserIdFromToken(bearerToken);
+            String userRole = tokenUtils.getRoleFromToken(bearerToken);
+            log.info("신청 상태 일괄 변경 요청: userId={}, campaignId={}, status={}, count={}",
+                    userId, campaignId, request.getApplicationStatus(), request.getApplicationIds().size());
+
+            // CLIENT 권한 확인
+            if (!UserRole.CLIENT.getValue().equals(userRole)) {
+                log.warn("CLIENT 권한 없음: userId={}, userRole={}", userId, userRole);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(BaseResponse.fail("기업 회원만 신청 상태를 변경할 수 있어요.", "INSUFFICIENT_ROLE", HttpStatus.FORBIDDEN.value()));
+            }
+
+            ApplicationStatus targetStatus;
+            try {
+                targetStatus = ApplicationStatus.valueOf(request.getApplicationStatus().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                targetStatus = null;
+            }
+            if (targetStatus == null || targetStatus == ApplicationStatus.PENDING) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(BaseResponse.fail("변경할 상태는 APPROVED, REJECTED, COMPLETED 중 하나여야 합니다.",
+                                "INVALID_STATUS", HttpStatus.BAD_REQUEST.value()));
+            }
+            if (request.getApplicationIds().stream().anyMatch(id -> id == null)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(BaseResponse.fail("신청 ID 목록에 빈 값이 있습니다.", "INVALID_IDS", HttpStatus.BAD_REQUEST.value()));
+            }
+
+            ApplicationBulkStatusResponse response = applicationService.updateApplicationStatuses(
+                    campaignId, userId, request.getApplicationIds(), targetStatus);
+
+            return ResponseEntity.ok(BaseResponse.success(response, "신청 상태를 변경했어요"));
+        } catch (JwtValidationException e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            String errorCode = e.getErrorType() == TokenErrorType.EXPIRED ? "TOKEN_EXPIRED" : "TOKEN_INVALID";
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(BaseResponse.fail(e.getMessage(), errorCode, HttpStatus.UNAUTHORIZED.value()));
+        } catch (UnauthorizedException e) {
+            log.warn("인증 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(BaseResponse.fail(e.getMessage(), "UNAUTHORIZED", HttpStatus.UNAUTHORIZED.value()));
+        } catch (AccessDeniedException e) {
+            log.warn("권한 없음: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(BaseResponse.fail(e.getMessage(), "FORBIDDEN", HttpStatus.FORBIDDEN.value()));
+        } catch (ResourceNotFoundException e) {
+            log.warn("리소스 없음: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(BaseResponse.fail(e.getMessage(), "NOT_FOUND", HttpStatus.NOT_FOUND.value()));
+        } catch (IllegalStateException e) {
+            log.warn("신청 상태 일괄 변경 실패 (비즈니스 로직): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(BaseResponse.fail(e.getMessage(), "INVALID_TRANSITION", HttpStatus.BAD_REQUEST.value()));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("신청 상태 일괄 변경 충돌: campaignId={}, error={}", campaignId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BaseResponse.fail(e.getMessage(), "STATUS_CONFLICT", HttpStatus.CONFLICT.value()));
+        } catch (Exception e) {
+            log.error("신청 상태 일괄 변경 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("신청 상태 변경 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @Operation(
+            summary = "캠페인별 신청 거절 현황 (관리자)",
+            description = "신청 유입 제어로 거절된 신청 수를 캠페인별로 많은 순서대로 조회합니다. 최근 7일까지 조회할 수 있습니다.\n\n" +
+                    "- 관리자(ADMIN) 토큰이 필요합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/admission-rejections")
+    public ResponseEntity<?> getAdmissionRejections(
+            @Parameter(description = "Bearer 토큰", required = true)
+            @RequestHeader("Authorization") String bearerToken,
+            @Parameter(description = "조회 일자 (yyyy-MM-dd, 생략 시 오늘)", example = "2024-05-17")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "조회할 캠페인 수", example = "20")
+            @RequestParam(required = false, defaultValue = "20") int limit
+    ) {
+        try {
+            Long userId = tokenUtils.getUserIdFromToken(bearerToken);
+            String userRole = tokenUtils.getRoleFromToken(bearerToken);
+            if (!UserRole.ADMIN.getValue().equals(userRole)) {
+                log.warn("신청 거절 현황 조회 권한 없음: userId={}, userRole={}", userId, userRole);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(BaseResponse.fail("관리자만 조회할 수 있습니다.", "INSUFFICIENT_ROLE", HttpStatus.FORBIDDEN.value()));
+            }
+
+            LocalDate targetDate = date != null ? date : LocalDate.now();
+            List<CampaignApplicationAdmissionService.RejectionCount> rejections =
+                    admissionService.getRejectionCounts(targetDate, Math.max(1, Math.min(limit, 100)));
+
+            return ResponseEntity.ok(BaseResponse.success(
+                    Map.of("date", targetDate.toString(), "campaigns", rejections),
+                    "신청 거절 현황을 조회했어요"
+            ));
+        } catch (JwtValidationException e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            String errorCode = e.getErrorType() == TokenErrorType.EXPIRED ? "TOKEN_EXPIRED" : "TOKEN_INVALID";
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(BaseResponse.fail(e.getMessage(), errorCode, HttpStatus.UNAUTHORIZED.value()));
+        } catch (UnauthorizedException e) {
+            log.warn("인증 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(BaseResponse.fail(e.getMessage(), "UNAUTHORIZED", HttpStatus.UNAUTHORIZED.value()));
+        } catch (Exception e) {
+            log.error("신청 거절 현황 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("신청 거절 현황 조회 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
 }
@@ -1,11 +1,22 @@
 package com.example.auth.controller;
 
 import com.example.auth.common.BaseResponse;
+import com.example.auth.constant.CampaignSortType;
+import com.example.auth.constant.CountMode;
 import com.example.auth.constant.UserRole;
 import com.example.auth.dto.campaign.*;
 import com.example.auth.dto.campaign.view.*;
+import com.example.auth.dto.common.CursorPageResponse;
+import com.example.auth.exception.JwtValidationException;
+import com.example.auth.exception.ResourceNotFoundException;
+import com.example.auth.exception.TokenErrorType;
+import com.example.auth.exception.UnauthorizedException;
+import com.example.auth.service.CampaignExportService;
 import com.example.auth.service.CampaignViewService;
 import com.example.auth.service.SearchAnalyticsService;
+import com.example.auth.service.VisitLocationClusterService;
+import com.example.auth.util.HttpCacheUtils;
+import com.example.auth.util.TokenUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,10 +24,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -30,6 +46,11 @@ public class CampaignViewController {
 
     private final CampaignViewService viewService;
     private final SearchAnalyticsService searchAnalyticsService;
+    private final CampaignExportService exportService;
+    private final TokenUtils tokenUtils;
+
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_BATCH_IDS = 100;
 
     // ===== 인기순/마감순 특화 API =====
 
@@ -40,9 +61,13 @@ public class CampaignViewController {
                     + "\n- **카테고리 타입**: categoryType=방문 또는 categoryType=배송"
                     + "\n- **카테고리명**: categoryName=맛집, 카페, 뷰티, 숙박, 식품, 화장품 등"
                     + "\n- **캠페인 타입**: campaignType=인스타그램, 블로그, 유튜브 등"
+                    + "\n\n### 커서 기반 조회 (무한 스크롤):"
+                    + "\n- 첫 요청: `cursor=` (빈 값) → 응답의 pagination.nextCursor를 다음 요청의 cursor로 전달"
+                    + "\n- 커서 모드에서는 page 파라미터와 전체 건수 조회를 사용하지 않습니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/popular")
@@ -62,37 +87,54 @@ public class CampaignViewController {
             @Parameter(description = "캠페인 타입 (인스타그램, 블로그, 유튜브 등)")
             @RequestParam(required = false) String campaignType,
 
-            @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @Parameter(description = "페이징 정보 포함 여부 (false면 전체 건수 조회 생략)")
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "전체 건수 계산 방식 (exact: COUNT 쿼리, approximate: 캐시된 집계로 추정). 응답의 pagination.totalExact로 정확 여부 확인")
+            @RequestParam(required = false, defaultValue = "exact") String countMode,
+
+            @Parameter(description = "커서 (지정 시 커서 기반 조회, 첫 페이지는 빈 값으로 요청). 이전 응답의 pagination.nextCursor 사용")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             log.info("인기 캠페인 목록 조회 요청 - page: {}, size: {}, categoryType: {}, categoryName: {}, campaignType: {}, includePaging: {}",
                     page, size, categoryType, categoryName, campaignType, includePaging);
 
-            var pageResponse = viewService.getCampaignListWithFilters(Math.max(0, page - 1), size, "currentApplicants", true, categoryType, categoryName, campaignType);
-            List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
-
-            if (includePaging) {
-                CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
-                responseWrapper.setCampaigns(campaigns);
-
-                CampaignListResponseWrapper.PaginationInfo paginationInfo =
-                        CampaignListResponseWrapper.PaginationInfo.builder()
-                                .pageNumber(pageResponse.getPageNumber())
-                                .pageSize(pageResponse.getPageSize())
-                                .totalPages(pageResponse.getTotalPages())
-                                .totalElements(pageResponse.getTotalElements())
-                                .first(pageResponse.isFirst())
-                                .last(pageResponse.isLast())
-                                .build();
+            CampaignFilterCondition condition = viewService.buildFilterCondition(categoryType, categoryName, campaignType, CampaignSortType.POPULAR);
 
-                responseWrapper.setPagination(paginationInfo);
+            // 커서 기반 조회 (OFFSET/COUNT 없음)
+            if (cursor != null) {
+                return cursorListResponse(condition, cursor, size, "인기 캠페인 목록 조회 성공");
+            }
 
-                return ResponseEntity.ok(BaseResponse.success(responseWrapper, "인기 캠페인 목록 조회 성공"));
-            } else {
+            // 페이징 정보가 필요 없으면 COUNT 쿼리 없이 목록만 조회
+            if (!includePaging) {
+                List<CampaignListSimpleResponse> campaigns =
+                        viewService.getCampaignListWithoutCount(condition, Math.max(0, page - 1), size);
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "인기 캠페인 목록 조회 성공"));
             }
+
+            var pageResponse = viewService.getCampaignList(condition, Math.max(0, page - 1), size, CountMode.fromString(countMode));
+            List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
+
+            CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
+            responseWrapper.setCampaigns(campaigns);
+
+            CampaignListResponseWrapper.PaginationInfo paginationInfo =
+                    CampaignListResponseWrapper.PaginationInfo.builder()
+                            .pageNumber(pageResponse.getPageNumber())
+                            .pageSize(pageResponse.getPageSize())
+                            .totalPages(pageResponse.getTotalPages())
+                            .totalElements(pageResponse.getTotalElements())
+                            .first(pageResponse.isFirst())
+                            .last(pageResponse.isLast())
+                            .totalExact(pageResponse.isTotalExact())
+                            .build();
+
+            responseWrapper.setPagination(paginationInfo);
+
+            return ResponseEntity.ok(BaseResponse.success(responseWrapper, "인기 캠페인 목록 조회 성공"));
         } catch (Exception e) {
             log.error("인기 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -107,9 +149,13 @@ public class CampaignViewController {
                     + "\n- **카테고리 타입**: categoryType=방문 또는 categoryType=배송"
                     + "\n- **카테고리명**: categoryName=맛집, 카페, 뷰티, 숙박, 식품, 화장품 등"
                     + "\n- **캠페인 타입**: campaignType=인스타그램, 블로그, 유튜브 등"
+                    + "\n\n### 커서 기반 조회 (무한 스크롤):"
+                    + "\n- 첫 요청: `cursor=` (빈 값) → 응답의 pagination.nextCursor를 다음 요청의 cursor로 전달"
+                    + "\n- 커서 모드에서는 page 파라미터와 전체 건수 조회를 사용하지 않습니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/deadline-soon")
@@ -129,37 +175,54 @@ public class CampaignViewController {
             @Parameter(description = "캠페인 타입 (인스타그램, 블로그, 유튜브 등)")
             @RequestParam(required = false) String campaignType,
 
-            @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @Parameter(description = "페이징 정보 포함 여부 (false면 전체 건수 조회 생략)")
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "전체 건수 계산 방식 (exact: COUNT 쿼리, approximate: 캐시된 집계로 추정). 응답의 pagination.totalExact로 정확 여부 확인")
+            @RequestParam(required = false, defaultValue = "exact") String countMode,
+
+            @Parameter(description = "커서 (지정 시 커서 기반 조회, 첫 페이지는 빈 값으로 요청). 이전 응답의 pagination.nextCursor 사용")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             log.info("마감 임박 캠페인 목록 조회 요청 - page: {}, size: {}, categoryType: {}, categoryName: {}, campaignType: {}, includePaging: {}",
                     page, size, categoryType, categoryName, campaignType, includePaging);
 
-            var pageResponse = viewService.getCampaignListByDeadlineSoonWithFilters(Math.max(0, page - 1), size, categoryType, categoryName, campaignType);
-            List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
+            CampaignFilterCondition condition = viewService.buildFilterCondition(categoryType, categoryName, campaignType, CampaignSortType.DEADLINE);
 
-            if (includePaging) {
-                CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
-                responseWrapper.setCampaigns(campaigns);
-
-                CampaignListResponseWrapper.PaginationInfo paginationInfo =
-                        CampaignListResponseWrapper.PaginationInfo.builder()
-                                .pageNumber(pageResponse.getPageNumber())
-                                .pageSize(pageResponse.getPageSize())
-                                .totalPages(pageResponse.getTotalPages())
-                                .totalElements(pageResponse.getTotalElements())
-                                .first(pageResponse.isFirst())
-                                .last(pageResponse.isLast())
-                                .build();
-
-                responseWrapper.setPagination(paginationInfo);
+            // 커서 기반 조회 (OFFSET/COUNT 없음)
+            if (cursor != null) {
+                return cursorListResponse(condition, cursor, size, "마감 임박 캠페인 목록 조회 성공");
+            }
 
-                return ResponseEntity.ok(BaseResponse.success(responseWrapper, "마감 임박 캠페인 목록 조회 성공"));
-            } else {
+            // 페이징 정보가 필요 없으면 COUNT 쿼리 없이 목록만 조회
+            if (!includePaging) {
+                List<CampaignListSimpleResponse> campaigns =
+                        viewService.getCampaignListWithoutCount(condition, Math.max(0, page - 1), size);
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "마감 임박 캠페인 목록 조회 성공"));
             }
+
+            var pageResponse = viewService.getCampaignList(condition, Math.max(0, page - 1), size, CountMode.fromString(countMode));
+            List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
+
+            CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
+            responseWrapper.setCampaigns(campaigns);
+
+            CampaignListResponseWrapper.PaginationInfo paginationInfo =
+                    CampaignListResponseWrapper.PaginationInfo.builder()
+                            .pageNumber(pageResponse.getPageNumber())
+                            .pageSize(pageResponse.getPageSize())
+                            .totalPages(pageResponse.getTotalPages())
+                            .totalElements(pageResponse.getTotalElements())
+                            .first(pageResponse.isFirst())
+                            .last(pageResponse.isLast())
+                            .totalExact(pageResponse.isTotalExact())
+                            .build();
+
+            responseWrapper.setPagination(paginationInfo);
+
+            return ResponseEntity.ok(BaseResponse.success(responseWrapper, "마감 임박 캠페인 목록 조회 성공"));
         } catch (Exception e) {
             log.error("마감 임박 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -174,9 +237,13 @@ public class CampaignViewController {
                     + "\n- **카테고리 타입**: categoryType=방문 또는 categoryType=배송"
                     + "\n- **카테고리명**: categoryName=맛집, 카페, 뷰티, 숙박, 식품, 화장품 등"
                     + "\n- **캠페인 타입**: campaignType=인스타그램, 블로그, 유튜브 등"
+                    + "\n\n### 커서 기반 조회 (무한 스크롤):"
+                    + "\n- 첫 요청: `cursor=` (빈 값) → 응답의 pagination.nextCursor를 다음 요청의 cursor로 전달"
+                    + "\n- 커서 모드에서는 page 파라미터와 전체 건수 조회를 사용하지 않습니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/latest")
@@ -196,37 +263,54 @@ public class CampaignViewController {
             @Parameter(description = "캠페인 타입 (인스타그램, 블로그, 유튜브 등)")
             @RequestParam(required = false) String campaignType,
 
-            @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @Parameter(description = "페이징 정보 포함 여부 (false면 전체 건수 조회 생략)")
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "전체 건수 계산 방식 (exact: COUNT 쿼리, approximate: 캐시된 집계로 추정). 응답의 pagination.totalExact로 정확 여부 확인")
+            @RequestParam(required = false, defaultValue = "exact") String countMode,
+
+            @Parameter(description = "커서 (지정 시 커서 기반 조회, 첫 페이지는 빈 값으로 요청). 이전 응답의 pagination.nextCursor 사용")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             log.info("최신 캠페인 목록 조회 요청 - page: {}, size: {}, categoryType: {}, categoryName: {}, campaignType: {}, includePaging: {}",
                     page, size, categoryType, categoryName, campaignType, includePaging);
 
-            var pageResponse = viewService.getCampaignListWithFilters(Math.max(0, page - 1), size, "createdAt", true, categoryType, categoryName, campaignType);
-            List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
-
-            if (includePaging) {
-                CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
-                responseWrapper.setCampaigns(campaigns);
+            CampaignFilterCondition condition = viewService.buildFilterCondition(categoryType, categoryName, campaignType, CampaignSortType.LATEST);
 
-                CampaignListResponseWrapper.PaginationInfo paginationInfo =
-                        CampaignListResponseWrapper.PaginationInfo.builder()
-                                .pageNumber(pageResponse.getPageNumber())
-                                .pageSize(pageResponse.getPageSize())
-                                .totalPages(pageResponse.getTotalPages())
-                                .totalElements(pageResponse.getTotalElements())
-                                .first(pageResponse.isFirst())
-                                .last(pageResponse.isLast())
-                                .build();
-
-                responseWrapper.setPagination(paginationInfo);
+            // 커서 기반 조회 (OFFSET/COUNT 없음)
+            if (cursor != null) {
+                return cursorListResponse(condition, cursor, size, "최신 캠페인 목록 조회 성공");
+            }
 
-                return ResponseEntity.ok(BaseResponse.success(responseWrapper, "최신 캠페인 목록 조회 성공"));
-            } else {
+            // 페이징 정보가 필요 없으면 COUNT 쿼리 없이 목록만 조회
+            if (!includePaging) {
+                List<CampaignListSimpleResponse> campaigns =
+                        viewService.getCampaignListWithoutCount(condition, Math.max(0, page - 1), size);
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "최신 캠페인 목록 조회 성공"));
             }
+
+            var pageResponse = viewService.getCampaignList(condition, Math.max(0, page - 1), size, CountMode.fromString(countMode));
+            List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
+
+            CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
+            responseWrapper.setCampaigns(campaigns);
+
+            CampaignListResponseWrapper.PaginationInfo paginationInfo =
+                    CampaignListResponseWrapper.PaginationInfo.builder()
+                            .pageNumber(pageResponse.getPageNumber())
+                            .pageSize(pageResponse.getPageSize())
+                            .totalPages(pageResponse.getTotalPages())
+                            .totalElements(pageResponse.getTotalElements())
+                            .first(pageResponse.isFirst())
+                            .last(pageResponse.isLast())
+                            .totalExact(pageResponse.isTotalExact())
+                            .build();
+
+            responseWrapper.setPagination(paginationInfo);
+
+            return ResponseEntity.ok(BaseResponse.success(responseWrapper, "최신 캠페인 목록 조회 성공"));
         } catch (Exception e) {
             log.error("최신 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -252,9 +336,16 @@ public class CampaignViewController {
                     + "\n\n### 정렬 옵션:"
                     + "\n- **최신순**: sort=latest (기본값)"
                     + "\n- **선정 마감순**: sort=deadline"
+                    + "\n\n### 커서 기반 조회 (무한 스크롤):"
+                    + "\n- 첫 요청: `cursor=` (빈 값) → 응답의 pagination.nextCursor를 다음 요청의 cursor로 전달"
+                    + "\n- 커서 모드에서는 page 파라미터와 전체 건수 조회를 사용하지 않습니다."
+                    + "\n\n### 필터별 캠페인 수:"
+                    + "\n- `includeFacets=true` - 응답의 facets에 카테고리명별/플랫폼별 캠페인 수 포함"
+                    + "\n- 카테고리명별 수는 선택된 플랫폼을, 플랫폼별 수는 선택된 카테고리명을 반영합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/visit")
@@ -274,39 +365,62 @@ public class CampaignViewController {
             @Parameter(description = "정렬 기준 (latest, deadline)")
             @RequestParam(required = false, defaultValue = "latest") String sort,
 
-            @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @Parameter(description = "페이징 정보 포함 여부 (false면 전체 건수 조회 생략)")
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "전체 건수 계산 방식 (exact: COUNT 쿼리, approximate: 캐시된 집계로 추정). 응답의 pagination.totalExact로 정확 여부 확인")
+            @RequestParam(required = false, defaultValue = "exact") String countMode,
+
+            @Parameter(description = "커서 (지정 시 커서 기반 조회, 첫 페이지는 빈 값으로 요청). 이전 응답의 pagination.nextCursor 사용")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "필터(카테고리명/플랫폼)별 캠페인 수 포함 여부")
+            @RequestParam(required = false, defaultValue = "false") boolean includeFacets
     ) {
         try {
-            log.info("방문 캠페인 목록 조회 요청 - page: {}, size: {}, categoryName: {}, campaignTypes: {}, sort: {}, includePaging: {}",
-                    page, size, categoryName, campaignTypes, sort, includePaging);
+            log.info("방문 캠페인 목록 조회 요청 - page: {}, size: {}, categoryName: {}, campaignTypes: {}, sort: {}, includePaging: {}, includeFacets: {}",
+                    page, size, categoryName, campaignTypes, sort, includePaging, includeFacets);
+
+            CampaignFilterCondition condition = viewService.buildFilterCondition("방문", categoryName, campaignTypes, CampaignSortType.fromString(sort));
+            CampaignFacetResponse facets = includeFacets ? viewService.getListFacets(condition) : null;
+
+            // 커서 기반 조회 (OFFSET/COUNT 없음)
+            if (cursor != null) {
+                return cursorListResponse(condition, cursor, size, facets, "방문 캠페인 목록 조회 성공");
+            }
+
+            // 페이징 정보가 필요 없으면 COUNT 쿼리 없이 목록만 조회
+            if (!includePaging) {
+                List<CampaignListSimpleResponse> campaigns =
+                        viewService.getCampaignListWithoutCount(condition, Math.max(0, page - 1), size);
+                Map<String, Object> responseData = facets != null
+                        ? Map.of("campaigns", campaigns, "facets", facets)
+                        : Map.of("campaigns", campaigns);
+                return ResponseEntity.ok(BaseResponse.success(responseData, "방문 캠페인 목록 조회 성공"));
+            }
 
-            var pageResponse = viewService.getFilteredCampaignList(
-                    Math.max(0, page - 1), size, "방문", categoryName, campaignTypes, sort);
+            var pageResponse = viewService.getCampaignList(condition, Math.max(0, page - 1), size, CountMode.fromString(countMode));
 
             List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
 
-            if (includePaging) {
-                CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
-                responseWrapper.setCampaigns(campaigns);
+            CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
+            responseWrapper.setCampaigns(campaigns);
 
-                CampaignListResponseWrapper.PaginationInfo paginationInfo =
-                        CampaignListResponseWrapper.PaginationInfo.builder()
-                                .pageNumber(pageResponse.getPageNumber())
-                                .pageSize(pageResponse.getPageSize())
-                                .totalPages(pageResponse.getTotalPages())
-                                .totalElements(pageResponse.getTotalElements())
-                                .first(pageResponse.isFirst())
-                                .last(pageResponse.isLast())
-                                .build();
+            CampaignListResponseWrapper.PaginationInfo paginationInfo =
+                    CampaignListResponseWrapper.PaginationInfo.builder()
+                            .pageNumber(pageResponse.getPageNumber())
+                            .pageSize(pageResponse.getPageSize())
+                            .totalPages(pageResponse.getTotalPages())
+                            .totalElements(pageResponse.getTotalElements())
+                            .first(pageResponse.isFirst())
+                            .last(pageResponse.isLast())
+                            .totalExact(pageResponse.isTotalExact())
+                            .build();
 
-                responseWrapper.setPagination(paginationInfo);
+            responseWrapper.setPagination(paginationInfo);
+            responseWrapper.setFacets(facets);
 
-                return ResponseEntity.ok(BaseResponse.success(responseWrapper, "방문 캠페인 목록 조회 성공"));
-            } else {
-                Map<String, Object> responseData = Map.of("campaigns", campaigns);
-                return ResponseEntity.ok(BaseResponse.success(responseData, "방문 캠페인 목록 조회 성공"));
-            }
+            return ResponseEntity.ok(BaseResponse.success(responseWrapper, "방문 캠페인 목록 조회 성공"));
         } catch (Exception e) {
             log.error("방문 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -314,6 +428,144 @@ public class CampaignViewController {
         }
     }
 
+    @Operation(
+            summary = "주변 방문 캠페인 조회",
+            description = "지정한 좌표에서 반경 내에 방문 장소가 있는 방문형 캠페인을 가까운 순으로 조회합니다."
+                    + "\n\n### 파라미터:"
+                    + "\n- **lat, lng**: 기준 좌표 (위도 -90~90, 경도 -180~180)"
+                    + "\n- **radius**: 검색 반경 (km, 기본값 3, 최대 50)"
+                    + "\n\n### 정렬:"
+                    + "\n- 캠페인의 방문 장소 중 가장 가까운 곳까지의 거리 오름차순"
+                    + "\n- 각 항목의 distanceMeters, address로 가장 가까운 방문 장소를 확인할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표 또는 반경"),
+            @ApiResponse(responseCode = "503", description = "위치 색인 준비 중"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/visit/nearby")
+    public ResponseEntity<?> getNearbyVisitCampaigns(
+            @Parameter(description = "기준 위도", required = true, example = "37.5665")
+            @RequestParam double lat,
+
+            @Parameter(description = "기준 경도", required = true, example = "126.9780")
+            @RequestParam double lng,
+
+            @Parameter(description = "검색 반경 (km, 최대 50)")
+            @RequestParam(required = false, defaultValue = "3") double radius,
+
+            @Parameter(description = "페이지 번호 (1부터 시작)")
+            @RequestParam(required = false, defaultValue = "1") int page,
+
+            @Parameter(description = "요청할 캠페인 갯수")
+            @RequestParam(required = false, defaultValue = "10") int size
+    ) {
+        try {
+            // 좌표/반경 검증
+            if (!isValidCoordinate(lat, lng)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(BaseResponse.fail("유효하지 않은 좌표입니다.", "INVALID_LOCATION", HttpStatus.BAD_REQUEST.value()));
+            }
+            if (Double.isNaN(radius) || radius <= 0 || radius > MAX_NEARBY_RADIUS_KM) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(BaseResponse.fail("검색 반경은 0km 초과 " + (int) MAX_NEARBY_RADIUS_KM + "km 이하여야 합니다.",
+                                "INVALID_RADIUS", HttpStatus.BAD_REQUEST.value()));
+            }
+
+            log.info("주변 방문 캠페인 조회 요청 - lat: {}, lng: {}, radius: {}km, page: {}, size: {}",
+                    lat, lng, radius, page, size);
+
+            var nearbyPage = viewService.getNearbyVisitCampaigns(lat, lng, radius * 1000, Math.max(0, page - 1), size);
+            if (nearbyPage.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(BaseResponse.fail("위치 정보를 준비 중입니다. 잠시 후 다시 시도해주세요.",
+                                "LOCATION_INDEX_NOT_READY", HttpStatus.SERVICE_UNAVAILABLE.value()));
+            }
+
+            var pageResponse = nearbyPage.get();
+            CampaignListResponseWrapper.PaginationInfo paginationInfo =
+                    CampaignListResponseWrapper.PaginationInfo.builder()
+                            .pageNumber(pageResponse.getPageNumber())
+                            .pageSize(pageResponse.getPageSize())
+                            .totalPages(pageResponse.getTotalPages())
+                            .totalElements(pageResponse.getTotalElements())
+                            .first(pageResponse.isFirst())
+                            .last(pageResponse.isLast())
+                            .totalExact(pageResponse.isTotalExact())
+                            .build();
+
+            Map<String, Object> responseData = Map.of(
+                    "campaigns", pageResponse.getContent(),
+                    "pagination", paginationInfo);
+            return ResponseEntity.ok(BaseResponse.success(responseData, "주변 방문 캠페인 조회 성공"));
+        } catch (Exception e) {
+            log.error("주변 방문 캠페인 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("주변 방문 캠페인 조회 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @Operation(
+            summary = "방문 캠페인 지도 클러스터 조회",
+            description = "지도 화면 영역 안의 방문 장소를 줌 레벨별 격자로 묶은 마커 클러스터를 조회합니다."
+                    + "\n\n### 파라미터:"
+                    + "\n- **zoom**: 지도 줌 레벨 (" + VisitLocationClusterService.MIN_ZOOM + "~" + VisitLocationClusterService.MAX_ZOOM
+                    + ", 범위를 벗어나면 가장 가까운 레벨로 처리)"
+                    + "\n- **swLat, swLng, neLat, neLng**: 화면 남서쪽/북동쪽 모서리 좌표"
+                    + "\n\n### 응답:"
+                    + "\n- 클러스터별 중심 좌표와 포함된 방문 장소 수"
+                    + "\n- 장소가 하나뿐인 클러스터는 campaignId를 함께 반환"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 지도 영역"),
+            @ApiResponse(responseCode = "503", description = "위치 색인 준비 중"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/visit/map-clusters")
+    public ResponseEntity<?> getVisitMapClusters(
+            @Parameter(description = "지도 줌 레벨", required = true, example = "12")
+            @RequestParam int zoom,
+
+            @Parameter(description = "남서쪽 위도", required = true, example = "37.45")
+            @RequestParam double swLat,
+
+            @Parameter(description = "남서쪽 경도", required = true, example = "126.85")
+            @RequestParam double swLng,
+
+            @Parameter(description = "북동쪽 위도", required = true, example = "37.65")
+            @RequestParam double neLat,
+
+            @Parameter(description = "북동쪽 경도", required = true, example = "127.15")
+            @RequestParam double neLng
+    ) {
+        try {
+            // 지도 영역 검증 (날짜 변경선을 넘는 영역은 지원하지 않음)
+            if (!isValidCoordinate(swLat, swLng) || !isValidCoordinate(neLat, neLng) || swLat > neLat || swLng > neLng) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(BaseResponse.fail("유효하지 않은 지도 영역입니다.", "INVALID_BOUNDS", HttpStatus.BAD_REQUEST.value()));
+            }
+
+            log.debug("방문 캠페인 지도 클러스터 조회 요청 - zoom: {}, sw: ({}, {}), ne: ({}, {})",
+                    zoom, swLat, swLng, neLat, neLng);
+
+            var clusters = viewService.getVisitMapClusters(zoom, swLat, swLng, neLat, neLng);
+            if (clusters.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(BaseResponse.fail("위치 정보를 준비 중입니다. 잠시 후 다시 시도해주세요.",
+                                "LOCATION_INDEX_NOT_READY", HttpStatus.SERVICE_UNAVAILABLE.value()));
+            }
+
+            Map<String, Object> responseData = Map.of("clusters", clusters.get());
+            return ResponseEntity.ok(BaseResponse.success(responseData, "방문 캠페인 지도 클러스터 조회 성공"));
+        } catch (Exception e) {
+            log.error("방문 캠페인 지도 클러스터 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("방문 캠페인 지도 클러스터 조회 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
     @Operation(
             summary = "배송 캠페인 목록 조회",
             description = "배송형 캠페인 목록을 다양한 조건으로 조회합니다."
@@ -331,9 +583,16 @@ public class CampaignViewController {
                     + "\n\n### 정렬 옵션:"
                     + "\n- **최신순**: sort=latest (기본값)"
                     + "\n- **선정 마감순**: sort=deadline"
+                    + "\n\n### 커서 기반 조회 (무한 스크롤):"
+                    + "\n- 첫 요청: `cursor=` (빈 값) → 응답의 pagination.nextCursor를 다음 요청의 cursor로 전달"
+                    + "\n- 커서 모드에서는 page 파라미터와 전체 건수 조회를 사용하지 않습니다."
+                    + "\n\n### 필터별 캠페인 수:"
+                    + "\n- `includeFacets=true` - 응답의 facets에 카테고리명별/플랫폼별 캠페인 수 포함"
+                    + "\n- 카테고리명별 수는 선택된 플랫폼을, 플랫폼별 수는 선택된 카테고리명을 반영합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/delivery")
@@ -353,39 +612,62 @@ public class CampaignViewController {
             @Parameter(description = "정렬 기준 (latest, deadline)")
             @RequestParam(required = false, defaultValue = "latest") String sort,
 
-            @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @Parameter(description = "페이징 정보 포함 여부 (false면 전체 건수 조회 생략)")
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "전체 건수 계산 방식 (exact: COUNT 쿼리, approximate: 캐시된 집계로 추정). 응답의 pagination.totalExact로 정확 여부 확인")
+            @RequestParam(required = false, defaultValue = "exact") String countMode,
+
+            @Parameter(description = "커서 (지정 시 커서 기반 조회, 첫 페이지는 빈 값으로 요청). 이전 응답의 pagination.nextCursor 사용")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "필터(카테고리명/플랫폼)별 캠페인 수 포함 여부")
+            @RequestParam(required = false, defaultValue = "false") boolean includeFacets
     ) {
         try {
-            log.info("배송 캠페인 목록 조회 요청 - page: {}, size: {}, categoryName: {}, campaignTypes: {}, sort: {}, includePaging: {}",
-                    page, size, categoryName, campaignTypes, sort, includePaging);
+            log.info("배송 캠페인 목록 조회 요청 - page: {}, size: {}, categoryName: {}, campaignTypes: {}, sort: {}, includePaging: {}, includeFacets: {}",
+                    page, size, categoryName, campaignTypes, sort, includePaging, includeFacets);
+
+            CampaignFilterCondition condition = viewService.buildFilterCondition("배송", categoryName, campaignTypes, CampaignSortType.fromString(sort));
+            CampaignFacetResponse facets = includeFacets ? viewService.getListFacets(condition) : null;
 
-            var pageResponse = viewService.getFilteredCampaignList(
-                    Math.max(0, page - 1), size, "배송", categoryName, campaignTypes, sort);
+            // 커서 기반 조회 (OFFSET/COUNT 없음)
+            if (cursor != null) {
+                return cursorListResponse(condition, cursor, size, facets, "배송 캠페인 목록 조회 성공");
+            }
+
+            // 페이징 정보가 필요 없으면 COUNT 쿼리 없이 목록만 조회
+            if (!includePaging) {
+                List<CampaignListSimpleResponse> campaigns =
+                        viewService.getCampaignListWithoutCount(condition, Math.max(0, page - 1), size);
+                Map<String, Object> responseData = facets != null
+                        ? Map.of("campaigns", campaigns, "facets", facets)
+                        : Map.of("campaigns", campaigns);
+                return ResponseEntity.ok(BaseResponse.success(responseData, "배송 캠페인 목록 조회 성공"));
+            }
+
+            var pageResponse = viewService.getCampaignList(condition, Math.max(0, page - 1), size, CountMode.fromString(countMode));
 
             List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
 
-            if (includePaging) {
-                CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
-                responseWrapper.setCampaigns(campaigns);
+            CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
+            responseWrapper.setCampaigns(campaigns);
 
-                CampaignListResponseWrapper.PaginationInfo paginationInfo =
-                        CampaignListResponseWrapper.PaginationInfo.builder()
-                                .pageNumber(pageResponse.getPageNumber())
-                                .pageSize(pageResponse.getPageSize())
-                                .totalPages(pageResponse.getTotalPages())
-                                .totalElements(pageResponse.getTotalElements())
-                                .first(pageResponse.isFirst())
-                                .last(pageResponse.isLast())
-                                .build();
+            CampaignListResponseWrapper.PaginationInfo paginationInfo =
+                    CampaignListResponseWrapper.PaginationInfo.builder()
+                            .pageNumber(pageResponse.getPageNumber())
+                            .pageSize(pageResponse.getPageSize())
+                            .totalPages(pageResponse.getTotalPages())
+                            .totalElements(pageResponse.getTotalElements())
+                            .first(pageResponse.isFirst())
+                            .last(pageResponse.isLast())
+                            .totalExact(pageResponse.isTotalExact())
+                            .build();
 
-                responseWrapper.setPagination(paginationInfo);
+            responseWrapper.setPagination(paginationInfo);
+            responseWrapper.setFacets(facets);
 
-                return ResponseEntity.ok(BaseResponse.success(responseWrapper, "배송 캠페인 목록 조회 성공"));
-            } else {
-                Map<String, Object> responseData = Map.of("campaigns", campaigns);
-                return ResponseEntity.ok(BaseResponse.success(responseData, "배송 캠페인 목록 조회 성공"));
-            }
+            return ResponseEntity.ok(BaseResponse.success(responseWrapper, "배송 캠페인 목록 조회 성공"));
         } catch (Exception e) {
             log.error("배송 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -393,14 +675,79 @@ public class CampaignViewController {
         }
     }
 
+    /**
+     * 커서 기반 캠페인 목록 응답 생성
+     * 잘못된 커서이거나 다른 정렬 기준에서 발급된 커서는 400으로 응답합니다.
+     */
+    private ResponseEntity<?> cursorListResponse(CampaignFilterCondition condition, String cursor, int size, String successMessage) {
+        return cursorListResponse(condition, cursor, size, null, successMessage);
+    }
+
+    private ResponseEntity<?> cursorListResponse(CampaignFilterCondition condition, String cursor, int size,
+                                                 CampaignFacetResponse facets, String successMessage) {
+        CursorPageResponse<CampaignListSimpleResponse> cursorPage;
+        try {
+            cursorPage = viewService.getCampaignListByCursor(condition, cursor, size);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 커서 요청 - cursor: {}, 사유: {}", cursor, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(BaseResponse.fail("유효하지 않은 커서입니다.", "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        CampaignCursorListResponseWrapper responseWrapper = CampaignCursorListResponseWrapper.builder()
+                .campaigns(cursorPage.getContent())
+                .pagination(CampaignCursorListResponseWrapper.CursorInfo.builder()
+                        .pageSize(cursorPage.getPageSize())
+                        .hasNext(cursorPage.isHasNext())
+                        .nextCursor(cursorPage.getNextCursor())
+                        .build())
+                .facets(facets)
+                .build();
+
+        return ResponseEntity.ok(BaseResponse.success(responseWrapper, successMessage));
+    }
+
     // ===== 캠페인 상세 조회 API =====
 
+    @Operation(
+            summary = "캠페인 상세 통합 조회",
+            description = "상세 화면에 필요한 썸네일, 기본 정보, 상세 정보, 미션 가이드, 키워드를 한 번에 조회합니다."
+                    + "\n\n캠페인별 스냅샷이 캐시되어 있어 개별 상세 API를 여러 번 호출하는 것보다 효율적입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)"),
+            @ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{campaignId}/detail")
+    public ResponseEntity<?> getCampaignDetail(
+            @Parameter(description = "캠페인 ID")
+            @PathVariable Long campaignId
+    ) {
+        try {
+            log.info("캠페인 상세 통합 조회 요청 - campaignId: {}", campaignId);
+
+            CampaignDetailSnapshot snapshot = viewService.getCampaignDetail(campaignId);
+            return detailResponse(snapshot, snapshot, "캠페인 상세 정보 조회 성공", false);
+        } catch (ResourceNotFoundException e) {
+            log.warn("캠페인 상세 통합 조회 실패 - campaignId: {}, {}", campaignId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(BaseResponse.fail("캠페인을 찾을 수 없습니다.", "NOT_FOUND", HttpStatus.NOT_FOUND.value()));
+        } catch (Exception e) {
+            log.error("캠페인 상세 통합 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("캠페인 상세 정보 조회 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
     @Operation(
             summary = "캠페인 썸네일 조회",
             description = "특정 캠페인의 썸네일 이미지 URL을 조회합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)"),
             @ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
@@ -412,8 +759,8 @@ public class CampaignViewController {
         try {
             log.info("캠페인 썸네일 조회 요청 - campaignId: {}", campaignId);
 
-            CampaignThumbnailResponse response = viewService.getCampaignThumbnail(campaignId);
-            return ResponseEntity.ok(BaseResponse.success(response, "캠페인 썸네일 조회 성공"));
+            CampaignDetailSnapshot snapshot = viewService.getCampaignDetail(campaignId);
+            return detailResponse(snapshot, CampaignThumbnailResponse.fromSnapshot(snapshot), "캠페인 썸네일 조회 성공", true);
         } catch (Exception e) {
             log.error("캠페인 썸네일 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -427,6 +774,7 @@ public class CampaignViewController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)"),
             @ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
@@ -438,8 +786,8 @@ public class CampaignViewController {
         try {
             log.info("캠페인 기본 정보 조회 요청 - campaignId: {}", campaignId);
 
-            CampaignBasicInfoResponse response = viewService.getCampaignBasicInfo(campaignId);
-            return ResponseEntity.ok(BaseResponse.success(response, "캠페인 기본 정보 조회 성공"));
+            CampaignDetailSnapshot snapshot = viewService.getCampaignDetail(campaignId);
+            return detailResponse(snapshot, CampaignBasicInfoResponse.fromSnapshot(snapshot), "캠페인 기본 정보 조회 성공", false);
         } catch (Exception e) {
             log.error("캠페인 기본 정보 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -453,6 +801,7 @@ public class CampaignViewController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)"),
             @ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
@@ -464,8 +813,8 @@ public class CampaignViewController {
         try {
             log.info("캠페인 상세 정보 조회 요청 - campaignId: {}", campaignId);
 
-            CampaignDetailInfoResponse response = viewService.getCampaignDetailInfo(campaignId);
-            return ResponseEntity.ok(BaseResponse.success(response, "캠페인 상세 정보 조회 성공"));
+            CampaignDetailSnapshot snapshot = viewService.getCampaignDetail(campaignId);
+            return detailResponse(snapshot, CampaignDetailInfoResponse.fromSnapshot(snapshot), "캠페인 상세 정보 조회 성공", true);
         } catch (Exception e) {
             log.error("캠페인 상세 정보 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -479,6 +828,7 @@ public class CampaignViewController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)"),
             @ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
@@ -490,8 +840,8 @@ public class CampaignViewController {
         try {
             log.info("캠페인 미션 가이드 조회 요청 - campaignId: {}", campaignId);
 
-            CampaignMissionGuideResponse response = viewService.getCampaignMissionGuide(campaignId);
-            return ResponseEntity.ok(BaseResponse.success(response, "캠페인 미션 가이드 조회 성공"));
+            CampaignDetailSnapshot snapshot = viewService.getCampaignDetail(campaignId);
+            return detailResponse(snapshot, CampaignMissionGuideResponse.fromSnapshot(snapshot), "캠페인 미션 가이드 조회 성공", true);
         } catch (Exception e) {
             log.error("캠페인 미션 가이드 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -505,6 +855,7 @@ public class CampaignViewController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)"),
             @ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
@@ -516,8 +867,8 @@ public class CampaignViewController {
         try {
             log.info("캠페인 필수 키워드 조회 요청 - campaignId: {}", campaignId);
 
-            CampaignKeywordsResponse response = viewService.getCampaignKeywords(campaignId);
-            return ResponseEntity.ok(BaseResponse.success(response, "캠페인 필수 키워드 조회 성공"));
+            CampaignDetailSnapshot snapshot = viewService.getCampaignDetail(campaignId);
+            return detailResponse(snapshot, CampaignKeywordsResponse.fromSnapshot(snapshot), "캠페인 필수 키워드 조회 성공", true);
         } catch (Exception e) {
             log.error("캠페인 필수 키워드 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -525,14 +876,37 @@ public class CampaignViewController {
         }
     }
 
+    /**
+     * 캠페인 상세 응답에 조건부 요청 헤더를 설정합니다.
+     * ETag는 스냅샷의 수정 시간과 신청 인원으로 만들어 변경이 없으면 본문 직렬화 없이 304로 응답합니다.
+     * 신청 인원은 수정 시간을 바꾸지 않으므로, 신청 인원이 포함된 응답에는 Last-Modified를 설정하지 않습니다.
+     */
+    private ResponseEntity<?> detailResponse(CampaignDetailSnapshot snapshot, Object body, String successMessage,
+                                             boolean includeLastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(HttpCacheUtils.revalidate())
+                .eTag(HttpCacheUtils.strongETag(snapshot.getCampaignId(),
+                        snapshot.getUpdatedAt() != null ? snapshot.getUpdatedAt().toInstant() : null,
+                        snapshot.getCurrentApplicants()));
+        if (includeLastModified && snapshot.getUpdatedAt() != null) {
+            builder.lastModified(snapshot.getUpdatedAt());
+        }
+        return builder.body(BaseResponse.success(body, successMessage));
+    }
+
+    private boolean isValidCoordinate(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
     // ===== 캠페인 검색 API =====
 
     @Operation(
             summary = "캠페인 검색",
             description = "키워드로 캠페인을 검색합니다."
                     + "\n\n### 검색 기능:"
-                    + "\n- **키워드**: 캠페인 제목에서 검색"
-                    + "\n- **정렬**: 최신순으로 고정"
+                    + "\n- **키워드**: 캠페인 제목, 제품 간단 정보에서 검색"
+                    + "\n- **정렬**: latest(기본값, 모집 중 우선 + 최신순) 또는 relevance(관련도순)"
+                    + "\n- **관련도순**: 제목/제품 정보/미션 키워드의 필드 가중 BM25 점수, 모집 중인 캠페인 가산"
                     + "\n- **페이징**: 페이지별 조회 지원"
                     + "\n- **통계 수집**: 검색어를 실시간 인기 검색어에 자동 반영"
                     + "\n\n### 사용 예시:"
@@ -556,7 +930,10 @@ public class CampaignViewController {
             @RequestParam(required = false, defaultValue = "10") int size,
 
             @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "정렬 기준 (latest: 최신순, relevance: 관련도순)")
+            @RequestParam(required = false, defaultValue = "latest") String sort
     ) {
         try {
             // 키워드 검증
@@ -565,15 +942,14 @@ public class CampaignViewController {
                         .body(BaseResponse.fail("검색 키워드는 필수입니다.", "INVALID_KEYWORD", HttpStatus.BAD_REQUEST.value()));
             }
 
-            log.info("캠페인 검색 요청 - keyword: {}, page: {}, size: {}, includePaging: {}",
-                    keyword, page, size, includePaging);
+            log.info("캠페인 검색 요청 - keyword: {}, page: {}, size: {}, includePaging: {}, sort: {}",
+                    keyword, page, size, includePaging, sort);
 
             // 검색 통계 수집
             searchAnalyticsService.recordSearch(keyword.trim());
 
-            // 최신순으로 고정
             var pageResponse = viewService.searchCampaigns(
-                    keyword.trim(), Math.max(0, page - 1), size, "latest");
+                    keyword.trim(), Math.max(0, page - 1), size, sort);
 
             List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
 
@@ -589,6 +965,7 @@ public class CampaignViewController {
                                 .totalElements(pageResponse.getTotalElements())
                                 .first(pageResponse.isFirst())
                                 .last(pageResponse.isLast())
+                                .totalExact(pageResponse.isTotalExact())
                                 .build();
 
                 responseWrapper.setPagination(paginationInfo);
@@ -605,5 +982,148 @@ public class CampaignViewController {
         }
     }
 
+    @Operation(
+            summary = "캠페인 일괄 조회",
+            description = "여러 캠페인을 ID 목록으로 한 번에 조회합니다. (최근 본 캠페인, 북마크 목록 등)"
+                    + "\n\n### 사용 예시:"
+                    + "\n- `ids=12,5,33` - 요청한 순서(12, 5, 33)대로 목록 항목 반환"
+                    + "\n\n### 응답:"
+                    + "\n- **campaigns**: 요청 순서대로 정렬된 캠페인 목록 (중복 ID는 한 번만 포함)"
+                    + "\n- **missingIds**: 존재하지 않아 조회되지 않은 ID 목록"
+                    + "\n- 한 번에 최대 " + MAX_BATCH_IDS + "개까지 요청할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID 목록 누락 또는 개수 초과"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<?> getCampaignsByIds(
+            @Parameter(description = "조회할 캠페인 ID 목록 (쉼표로 구분)", required = true, example = "12,5,33")
+            @RequestParam List<Long> ids
+    ) {
+        try {
+            if (ids == null || ids.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(BaseResponse.fail("캠페인 ID 목록은 필수입니다.", "INVALID_IDS", HttpStatus.BAD_REQUEST.value()));
+            }
+            if (ids.size() > MAX_BATCH_IDS) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(BaseResponse.fail("한 번에 최대 " + MAX_BATCH_IDS + "개까지 조회할 수 있습니다.",
+                                "TOO_MANY_IDS", HttpStatus.BAD_REQUEST.value()));
+            }
+
+            log.info("캠페인 일괄 조회 요청 - 요청 ID 수: {}", ids.size());
+
+            CampaignBatchResponse response = viewService.getCampaignsByIds(ids);
+            return ResponseEntity.ok(BaseResponse.success(response, "캠페인 일괄 조회 성공"));
+        } catch (Exception e) {
+            log.error("캠페인 일괄 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("캠페인 일괄 조회 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @Operation(
+            summary = "캠페인 전체 내보내기 (관리자)",
+            description = "전체 캠페인을 NDJSON(한 줄에 캠페인 하나의 JSON) 형식으로 내려받습니다. 승인 상태와 무관하게 모든 캠페인을 포함합니다."
+                    + "\n\n- DB 커서에서 읽는 대로 응답에 쓰므로 캠페인 수가 많아도 서버 메모리 사용량이 일정합니다."
+                    + "\n- 관리자(ADMIN) 토큰이 필요합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 시작 (application/x-ndjson)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<?> exportCampaigns(
+            @Parameter(description = "Bearer 토큰", required = true)
+            @RequestHeader("Authorization") String bearerToken
+    ) {
+        try {
+            Long userId = tokenUtils.getUserIdFromToken(bearerToken);
+            String userRole = tokenUtils.getRoleFromToken(bearerToken);
+            if (!UserRole.ADMIN.getValue().equals(userRole)) {
+                log.warn("캠페인 내보내기 권한 없음: userId={}, userRole={}", userId, userRole);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(BaseResponse.fail("관리자만 캠페인을 내보낼 수 있습니다.", "INSUFFICIENT_ROLE", HttpStatus.FORBIDDEN.value()));
+            }
 
-}
\ No newline at end of file
+            log.info("캠페인 내보내기 요청 - userId: {}", userId);
+
+            // 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰이며, 이미 응답이 시작된 뒤의 오류는 로그로만 남김
+            StreamingResponseBody body = outputStream -> {
+                try {
+                    exportService.exportCampaigns(outputStream);
+                } catch (Exception e) {
+                    log.error("캠페인 내보내기 중 오류 발생: {}", e.getMessage(), e);
+                    throw e;
+                }
+            };
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("campaigns-" + LocalDate.now() + ".ndjson")
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (JwtValidationException e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            String errorCode = e.getErrorType() == TokenErrorType.EXPIRED ? "TOKEN_EXPIRED" : "TOKEN_INVALID";
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(BaseResponse.fail(e.getMessage(), errorCode, HttpStatus.UNAUTHORIZED.value()));
+        } catch (UnauthorizedException e) {
+            log.warn("인증 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(BaseResponse.fail(e.getMessage(), "UNAUTHORIZED", HttpStatus.UNAUTHORIZED.value()));
+        } catch (Exception e) {
+            log.error("캠페인 내보내기 요청 처리 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("캠페인 내보내기 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @Operation(
+            summary = "캠페인 목록 캐시 통계 (관리자)",
+            description = "캠페인 목록 로컬 캐시의 크기와 적중/실패 횟수, 적중률을 조회합니다."
+                    + "\n\n- 관리자(ADMIN) 토큰이 필요합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getListCacheStats(
+            @Parameter(description = "Bearer 토큰", required = true)
+            @RequestHeader("Authorization") String bearerToken
+    ) {
+        try {
+            Long userId = tokenUtils.getUserIdFromToken(bearerToken);
+            String userRole = tokenUtils.getRoleFromToken(bearerToken);
+            if (!UserRole.ADMIN.getValue().equals(userRole)) {
+                log.warn("캠페인 목록 캐시 통계 조회 권한 없음: userId={}, userRole={}", userId, userRole);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(BaseResponse.fail("관리자만 캐시 통계를 조회할 수 있습니다.", "INSUFFICIENT_ROLE", HttpStatus.FORBIDDEN.value()));
+            }
+
+            return ResponseEntity.ok(BaseResponse.success(viewService.getListCacheStats(), "캠페인 목록 캐시 통계 조회 성공"));
+        } catch (JwtValidationException e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            String errorCode = e.getErrorType() == TokenErrorType.EXPIRED ? "TOKEN_EXPIRED" : "TOKEN_INVALID";
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(BaseResponse.fail(e.getMessage(), errorCode, HttpStatus.UNAUTHORIZED.value()));
+        } catch (UnauthorizedException e) {
+            log.warn("인증 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(BaseResponse.fail(e.getMessage(), "UNAUTHORIZED", HttpStatus.UNAUTHORIZED.value()));
+        } catch (Exception e) {
+            log.error("캠페인 목록 캐시 통계 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(BaseResponse.fail("캠페인 목록 캐시 통계 조회 중 오류가 발생했습니다.", "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 캠페인 정보를 저장하는 엔티티 클래스
@@ -17,7 +18,15 @@ import java.util.List;
  * 인플루언서들이 체험하고 리뷰를 작성하는 활동의 정보를 담고 있습니다.
  */
 @Entity
-@Table(name = "campaigns")
+@Table(name = "campaigns", indexes = {
+        @Index(name = "idx_campaigns_current_applicants", columnList = "current_applicants DESC, created_at DESC"),
+        @Index(name = "idx_campaigns_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_campaigns_deadline_id", columnList = "application_deadline_date, id"),
+        // 모집 중 우선 정렬용 - 모집 상태 구간 + 정렬 키 순서로 인덱스에서 바로 정렬된 결과를 읽음
+        @Index(name = "idx_campaigns_recruitment_created", columnList = "recruitment_status, created_at DESC, id DESC"),
+        @Index(name = "idx_campaigns_recruitment_applicants", columnList = "recruitment_status, current_applicants DESC, created_at DESC, id DESC"),
+        @Index(name = "idx_campaigns_recruitment_deadline", columnList = "recruitment_status, application_deadline_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +61,11 @@ public class Campaign {
     @Column(name = "max_applicants", nullable = false)
     private Integer maxApplicants;  // 최대 신청 가능 인원 수
 
+    // 신청 생성/취소/상태 변경 시 벌크 UPDATE로만 증감하므로 엔티티 flush 대상에서 제외
+    @Column(name = "current_applicants", nullable = false, updatable = false, columnDefinition = "INTEGER DEFAULT 0")
+    @Builder.Default
+    private Integer currentApplicants = 0;  // 현재 대기(PENDING) 신청자 수 (비정규화 카운터)
+
     @Column(name = "product_details", nullable = false, columnDefinition = "TEXT")
     private String productDetails;  // 제공되는 제품/서비스에 대한 상세 정보
 
@@ -71,6 +85,17 @@ public class Campaign {
     @Column(name = "review_deadline_date", nullable = false)
     private LocalDate reviewDeadlineDate;  // 리뷰 제출 마감일
 
+    // 신청 마감일 기준 모집 상태 - 목록 정렬용으로 저장하며 매일 자정 일괄 갱신 (순서값 0: 모집 중, 1: 마감)
+    @Column(name = "recruitment_status", nullable = false, columnDefinition = "SMALLINT DEFAULT 0")
+    @Enumerated(EnumType.ORDINAL)
+    @Builder.Default
+    private RecruitmentStatus recruitmentStatus = RecruitmentStatus.RECRUITING;
+
+    // 일정 기준 진행 단계 - 단계 경계가 지나면 CampaignLifecycleTimerService가 갱신
+    @Column(name = "lifecycle_phase", length = 20)
+    @Enumerated(EnumType.STRING)
+    private LifecyclePhase lifecyclePhase;
+
     @Column(name = "selection_criteria", columnDefinition = "TEXT")
     private String selectionCriteria;  // 선정 기준
 
@@ -135,6 +160,122 @@ public class Campaign {
         }
     }
 
+    /**
+     * 모집 상태 열거형
+     * 순서값이 DB에 저장되고 목록의 모집 중 우선 정렬 키로 쓰이므로 선언 순서를 바꾸지 않습니다.
+     */
+    public enum RecruitmentStatus {
+        RECRUITING("모집중"),
+        CLOSED("모집마감");
+
+        private final String description;
+
+        RecruitmentStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * 신청 마감일과 기준 날짜로 모집 상태를 계산합니다. (마감일 당일까지 모집 중)
+         */
+        public static RecruitmentStatus of(LocalDate applicationDeadlineDate, LocalDate currentDate) {
+            return applicationDeadlineDate != null && applicationDeadlineDate.isBefore(currentDate) ? CLOSED : RECRUITING;
+        }
+
+        /**
+         * 커서에 저장된 정렬 구간 값(순서값)을 모집 상태로 변환합니다.
+         */
+        public static RecruitmentStatus fromBucket(Integer bucket) {
+            return bucket != null && bucket == CLOSED.ordinal() ? CLOSED : RECRUITING;
+        }
+
+        /**
+         * 진행 단계에 해당하는 모집 상태를 반환합니다. (모집 예정/모집 중이면 모집 중, 그 이후 단계면 마감)
+         */
+        public static RecruitmentStatus of(LifecyclePhase phase) {
+            return switch (phase) {
+                case SCHEDULED, RECRUITING -> RECRUITING;
+                case SELECTING, REVIEWING, COMPLETED -> CLOSED;
+            };
+        }
+    }
+
+    /**
+     * 캠페인 진행 단계 열거형
+     * 각 단계는 해당 날짜 0시에 시작합니다. (모집 시작일, 신청 마감일 다음 날, 선정일, 리뷰 마감일 다음 날)
+     */
+    public enum LifecyclePhase {
+        SCHEDULED("모집예정"),
+        RECRUITING("모집중"),
+        SELECTING("선정중"),
+        REVIEWING("리뷰진행중"),
+        COMPLETED("종료");
+
+        private final String description;
+
+        LifecyclePhase(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * 일정과 기준 날짜로 진행 단계를 계산합니다.
+         */
+        public static LifecyclePhase of(LocalDate recruitmentStartDate, LocalDate applicationDeadlineDate,
+                                        LocalDate selectionDate, LocalDate reviewDeadlineDate, LocalDate currentDate) {
+            if (currentDate.isBefore(recruitmentStartDate)) {
+                return SCHEDULED;
+            }
+            if (!currentDate.isAfter(applicationDeadlineDate)) {
+                return RECRUITING;
+            }
+            if (currentDate.isBefore(selectionDate)) {
+                return SELECTING;
+            }
+            if (!currentDate.isAfter(reviewDeadlineDate)) {
+                return REVIEWING;
+            }
+            return COMPLETED;
+        }
+
+        /**
+         * 기준 날짜 이후 진행 단계가 다시 계산되어야 하는 가장 가까운 날짜를 반환합니다.
+         * @return 이후 경계가 없으면 null (종료 단계)
+         */
+        public static LocalDate nextBoundary(LocalDate recruitmentStartDate, LocalDate applicationDeadlineDate,
+                                             LocalDate selectionDate, LocalDate reviewDeadlineDate, LocalDate currentDate) {
+            return Stream.of(
+                            recruitmentStartDate,
+                            applicationDeadlineDate.plusDays(1),
+                            selectionDate,
+                            reviewDeadlineDate.plusDays(1))
+                    .filter(boundary -> boundary.isAfter(currentDate))
+                    .min(LocalDate::compareTo)
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * 일정을 기준으로 진행 단계를 다시 계산합니다.
+     */
+    public void refreshLifecyclePhase(LocalDate currentDate) {
+        this.lifecyclePhase = LifecyclePhase.of(
+                recruitmentStartDate, applicationDeadlineDate, selectionDate, reviewDeadlineDate, currentDate);
+    }
+
+    /**
+     * 신청 마감일을 기준으로 모집 상태를 다시 계산합니다.
+     */
+    public void refreshRecruitmentStatus(LocalDate currentDate) {
+        this.recruitmentStatus = RecruitmentStatus.of(applicationDeadlineDate, currentDate);
+    }
+
     /**
      * 캠페인 정보가 업데이트될 때 호출되어 수정 시간을 현재 시간으로 업데이트합니다.
      */
@@ -154,6 +295,8 @@ public class Campaign {
         if (this.updatedAt == null) {
             this.updatedAt = ZonedDateTime.now();
         }
+        refreshRecruitmentStatus(LocalDate.now());
+        refreshLifecyclePhase(LocalDate.now());
     }
 
     // 키워드 관련 헬퍼 메소드
@@ -0,0 +1,48 @@
+package com.example.auth.dto.application;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 캠페인 신청 상태 일괄 변경 요청 DTO
+ * 기업 회원이 여러 신청자를 한 번에 선정/거절/완료 처리할 때 사용합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    description = "캠페인 신청 상태 일괄 변경 요청 DTO",
+    title = "ApplicationBulkStatusRequest",
+    example = "{\"applicationIds\": [15, 16, 21], \"applicationStatus\": \"APPROVED\"}"
+)
+public class ApplicationBulkStatusRequest {
+
+    @NotEmpty(message = "신청 ID 목록은 필수입니다.")
+    @Size(max = 500, message = "한 번에 최대 500개의 신청까지 변경할 수 있습니다.")
+    @Schema(
+        description = "상태를 변경할 신청 ID 목록 (최대 500개)",
+        example = "[15, 16, 21]",
+        required = true,
+        title = "신청 ID 목록"
+    )
+    private List<Long> applicationIds;
+
+    @NotBlank(message = "변경할 신청 상태는 필수입니다.")
+    @Schema(
+        description = "변경할 신청 상태",
+        example = "APPROVED",
+        allowableValues = {"APPROVED", "REJECTED", "COMPLETED"},
+        required = true,
+        title = "변경할 상태"
+    )
+    private String applicationStatus;
+}
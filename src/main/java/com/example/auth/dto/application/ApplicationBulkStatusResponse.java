@@ -0,0 +1,30 @@
+package com.example.auth.dto.application;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캠페인 신청 상태 일괄 변경 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "캠페인 신청 상태 일괄 변경 결과")
+public class ApplicationBulkStatusResponse {
+
+    @Schema(description = "캠페인 ID", example = "42")
+    private Long campaignId;
+
+    @Schema(description = "변경된 신청 상태", example = "APPROVED")
+    private String applicationStatus;
+
+    @Schema(description = "상태가 변경된 신청 수", example = "3")
+    private int updatedCount;
+
+    @Schema(description = "이미 요청한 상태여서 변경하지 않은 신청 수", example = "0")
+    private int unchangedCount;
+}
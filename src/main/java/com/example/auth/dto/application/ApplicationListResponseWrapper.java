@@ -80,6 +80,10 @@ public class ApplicationListResponseWrapper {
         @Schema(description = "사용자 정보")
         private UserInfo user;
         
+        @Schema(description = "대기열 접수 멱등 키 (대기열 모드로 접수되어 아직 반영되지 않은 경우에만 포함)",
+                example = "3f1c2a9e-7b4d-4c1e-9a57-0e2f6b8d1c34")
+        private String idempotencyKey;
+        
         /**
          * 캠페인 정보 (기본용)
          */
@@ -217,6 +221,26 @@ public class ApplicationListResponseWrapper {
                     .build();
         }
         
+        /**
+         * 대기열에 접수된 신청의 DTO 생성 (hasApplied 포함, 상태 QUEUED)
+         */
+        public static ApplicationInfoDTO queued(Long campaignId, String campaignTitle, Long userId,
+                                                String userNickname, String idempotencyKey) {
+            return ApplicationInfoDTO.builder()
+                    .applicationStatus("QUEUED")
+                    .hasApplied(true)
+                    .campaign(CampaignInfo.builder()
+                            .id(campaignId)
+                            .title(campaignTitle)
+                            .build())
+                    .user(UserInfo.builder()
+                            .id(userId)
+                            .nickname(userNickname)
+                            .build())
+                    .idempotencyKey(idempotencyKey)
+                    .build();
+        }
+        
         /**
          * 신청하지 않은 경우의 DTO 생성 (hasApplied 포함)
          */
@@ -41,4 +41,18 @@ public class CampaignBasicInfoResponse {
                 .recruitmentEndDate(campaign.getRecruitmentEndDate())
                 .build();
     }
+    
+    public static CampaignBasicInfoResponse fromSnapshot(CampaignDetailSnapshot snapshot) {
+        return CampaignBasicInfoResponse.builder()
+                .campaignId(snapshot.getCampaignId())
+                .campaignType(snapshot.getCampaignType())
+                .categoryType(snapshot.getCategoryType())
+                .categoryName(snapshot.getCategoryName())
+                .title(snapshot.getTitle())
+                .maxApplicants(snapshot.getMaxApplicants())
+                .currentApplicants(snapshot.getCurrentApplicants())
+                .recruitmentStartDate(snapshot.getRecruitmentStartDate())
+                .recruitmentEndDate(snapshot.getRecruitmentEndDate())
+                .build();
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.auth.dto.campaign;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 캠페인 일괄 조회 응답 DTO
+ * 요청한 ID 순서대로 캠페인 목록을 반환하고, 조회되지 않은 ID는 별도로 알려줍니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "캠페인 일괄 조회 응답")
+public class CampaignBatchResponse {
+
+    @Schema(description = "요청 순서대로 정렬된 캠페인 목록", required = true)
+    private List<CampaignListSimpleResponse> campaigns;
+
+    @Schema(description = "존재하지 않거나 조회할 수 없는 캠페인 ID 목록", example = "[42]", required = true)
+    private List<Long> missingIds;
+}
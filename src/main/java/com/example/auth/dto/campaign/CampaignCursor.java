@@ -0,0 +1,110 @@
+package com.example.auth.dto.campaign;
+
+import com.example.auth.constant.CampaignSortType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * 캠페인 목록 키셋(커서) 페이지네이션용 커서
+ * 마지막으로 내려준 캠페인의 정렬 키를 담아 다음 페이지를 seek 조건으로 조회하는 데 사용합니다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출되며 내부 구조에 의존하지 않도록 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CampaignCursor {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    private final CampaignSortType sortType;  // 커서를 발급한 정렬 기준
+    private final Integer recruitmentBucket;  // 모집 상태 구간 (0: 모집 중, 1: 마감, 모집 우선 정렬이 아니면 null)
+    private final Integer currentApplicants;  // 인기순 정렬 키
+    private final ZonedDateTime createdAt;  // 최신순/인기순 정렬 키
+    private final LocalDate applicationDeadlineDate;  // 마감순 정렬 키
+    private final Long id;  // 동일 정렬 키 간 순서를 고정하는 보조 키
+
+    /**
+     * 마지막 캠페인과 조회 조건으로 다음 페이지 커서를 생성합니다.
+     */
+    public static CampaignCursor of(CampaignListProjection last, CampaignFilterCondition condition) {
+        Integer bucket = null;
+        if (condition.isRecruitingFirst()) {
+            bucket = last.getRecruitmentStatus().ordinal();
+        }
+        return new CampaignCursor(
+                condition.getSortType(),
+                bucket,
+                last.getCurrentApplicants(),
+                last.getCreatedAt(),
+                last.getApplicationDeadlineDate(),
+                last.getId());
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 불투명 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                VERSION,
+                sortType.name(),
+                toText(recruitmentBucket),
+                toText(currentApplicants),
+                createdAt != null ? createdAt.toInstant().toString() : "",
+                toText(applicationDeadlineDate),
+                toText(id));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static CampaignCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 7 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("지원하지 않는 커서 형식입니다.");
+            }
+
+            return new CampaignCursor(
+                    CampaignSortType.valueOf(parts[1]),
+                    parts[2].isEmpty() ? null : Integer.valueOf(parts[2]),
+                    parts[3].isEmpty() ? null : Integer.valueOf(parts[3]),
+                    parts[4].isEmpty() ? null : ZonedDateTime.ofInstant(Instant.parse(parts[4]), ZoneOffset.UTC),
+                    parts[5].isEmpty() ? null : LocalDate.parse(parts[5]),
+                    Long.valueOf(parts[6]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 커서가 해당 조회 조건으로 발급된 것인지 확인합니다.
+     */
+    public boolean matches(CampaignFilterCondition condition) {
+        if (sortType != condition.getSortType()) {
+            return false;
+        }
+        if (condition.isRecruitingFirst() && recruitmentBucket == null) {
+            return false;
+        }
+        return switch (sortType) {
+            case POPULAR -> currentApplicants != null && createdAt != null;
+            case LATEST -> createdAt != null;
+            case DEADLINE -> applicationDeadlineDate != null;
+        };
+    }
+
+    private static String toText(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
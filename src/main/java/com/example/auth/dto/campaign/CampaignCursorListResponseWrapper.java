@@ -0,0 +1,51 @@
+package com.example.auth.dto.campaign;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 캠페인 목록 조회 응답을 담는 Wrapper DTO
+ * 전체 건수 대신 다음 페이지 커서를 제공하여 무한 스크롤에서 사용합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 캠페인 목록 조회 응답")
+public class CampaignCursorListResponseWrapper {
+
+    @Schema(description = "캠페인 목록")
+    private List<CampaignListSimpleResponse> campaigns;
+
+    @Schema(description = "커서 페이징 정보")
+    private CursorInfo pagination;
+
+    @Schema(description = "필터별 캠페인 수 (includeFacets=true일 때만 포함)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CampaignFacetResponse facets;
+
+    /**
+     * 커서 페이징 정보를 담는 내부 클래스
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "커서 페이징 정보")
+    public static class CursorInfo {
+        @Schema(description = "페이지 크기", example = "10")
+        private int pageSize;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지이면 null)")
+        private String nextCursor;
+    }
+}
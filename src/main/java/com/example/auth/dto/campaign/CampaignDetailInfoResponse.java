@@ -37,4 +37,16 @@ public class CampaignDetailInfoResponse {
                 .applicationDeadlineDate(campaign.getApplicationDeadlineDate())
                 .build();
     }
+    
+    public static CampaignDetailInfoResponse fromSnapshot(CampaignDetailSnapshot snapshot) {
+        return CampaignDetailInfoResponse.builder()
+                .campaignId(snapshot.getCampaignId())
+                .productShortInfo(snapshot.getProductShortInfo())
+                .productDetails(snapshot.getProductDetails())
+                .selectionCriteria(snapshot.getSelectionCriteria())
+                .reviewDeadlineDate(snapshot.getReviewDeadlineDate())
+                .selectionDate(snapshot.getSelectionDate())
+                .applicationDeadlineDate(snapshot.getApplicationDeadlineDate())
+                .build();
+    }
 }
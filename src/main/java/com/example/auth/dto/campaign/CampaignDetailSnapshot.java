@@ -0,0 +1,128 @@
+package com.example.auth.dto.campaign;
+
+import com.example.auth.domain.Campaign;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 캠페인 상세 화면 스냅샷
+ * 상세 화면에 필요한 모든 필드를 한 번의 조회로 구성한 불변 객체로, 캠페인별로 캐시되어
+ * 통합 상세 조회와 기존 부분 조회(썸네일, 기본 정보, 상세 정보, 미션 가이드, 키워드) 응답의 원본이 됩니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@Jacksonized
+@Schema(description = "캠페인 상세 정보 (통합)")
+public class CampaignDetailSnapshot {
+
+    @Schema(description = "캠페인 ID", example = "1")
+    private final Long campaignId;
+
+    @Schema(description = "썸네일 이미지 URL")
+    private final String thumbnailUrl;
+
+    @Schema(description = "캠페인 진행 플랫폼", example = "인스타그램")
+    private final String campaignType;
+
+    @Schema(description = "카테고리 타입", example = "방문")
+    private final String categoryType;
+
+    @Schema(description = "카테고리 이름", example = "카페")
+    private final String categoryName;
+
+    @Schema(description = "캠페인 제목")
+    private final String title;
+
+    @Schema(description = "최대 신청 인원", example = "10")
+    private final Integer maxApplicants;
+
+    @Schema(description = "현재 신청 인원", example = "3")
+    private final Integer currentApplicants;
+
+    @Schema(description = "모집 시작일")
+    private final LocalDate recruitmentStartDate;
+
+    @Schema(description = "모집 마감일")
+    private final LocalDate recruitmentEndDate;
+
+    @Schema(description = "신청 마감일")
+    private final LocalDate applicationDeadlineDate;
+
+    @Schema(description = "참가자 선정일")
+    private final LocalDate selectionDate;
+
+    @Schema(description = "리뷰 제출 마감일")
+    private final LocalDate reviewDeadlineDate;
+
+    @Schema(description = "제공 제품/서비스 간단 정보")
+    private final String productShortInfo;
+
+    @Schema(description = "제공 제품/서비스 상세 정보")
+    private final String productDetails;
+
+    @Schema(description = "선정 기준")
+    private final String selectionCriteria;
+
+    @Schema(description = "미션 가이드")
+    private final String missionGuide;
+
+    @Schema(description = "필수 포함 키워드 목록")
+    private final List<String> missionKeywords;
+
+    @Schema(description = "마지막 수정 시간")
+    private final ZonedDateTime updatedAt;
+
+    /**
+     * 카테고리가 로딩된 캠페인 엔티티로 스냅샷을 생성합니다.
+     * 신청 인원은 비정규화 카운터 값을 사용합니다.
+     */
+    public static CampaignDetailSnapshot fromEntity(Campaign campaign) {
+        return CampaignDetailSnapshot.builder()
+                .campaignId(campaign.getId())
+                .thumbnailUrl(campaign.getThumbnailUrl())
+                .campaignType(campaign.getCampaignType())
+                .categoryType(campaign.getCategory() != null ? campaign.getCategory().getCategoryType().name() : null)
+                .categoryName(campaign.getCategory() != null ? campaign.getCategory().getCategoryName() : null)
+                .title(campaign.getTitle())
+                .maxApplicants(campaign.getMaxApplicants())
+                .currentApplicants(campaign.getCurrentApplicants())
+                .recruitmentStartDate(campaign.getRecruitmentStartDate())
+                .recruitmentEndDate(campaign.getRecruitmentEndDate())
+                .applicationDeadlineDate(campaign.getApplicationDeadlineDate())
+                .selectionDate(campaign.getSelectionDate())
+                .reviewDeadlineDate(campaign.getReviewDeadlineDate())
+                .productShortInfo(campaign.getProductShortInfo())
+                .productDetails(campaign.getProductDetails())
+                .selectionCriteria(campaign.getSelectionCriteria())
+                .missionGuide(campaign.getMissionGuide())
+                .missionKeywords(toKeywordList(campaign.getMissionKeywords()))
+                .updatedAt(campaign.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 신청 인원만 바꾼 스냅샷을 반환합니다. (신청마다 바뀌는 값은 캐시된 스냅샷과 별도로 조회)
+     */
+    public CampaignDetailSnapshot withCurrentApplicants(Integer currentApplicants) {
+        return toBuilder().currentApplicants(currentApplicants).build();
+    }
+
+    private static List<String> toKeywordList(String[] missionKeywords) {
+        if (missionKeywords == null || missionKeywords.length == 0) {
+            return Collections.emptyList();
+        }
+        // String[] 배열을 불변 List<String>으로 변환
+        return Arrays.stream(missionKeywords)
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .toList();
+    }
+}
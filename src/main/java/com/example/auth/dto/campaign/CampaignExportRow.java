@@ -0,0 +1,58 @@
+package com.example.auth.dto.campaign;
+
+import com.example.auth.domain.Campaign;
+import com.example.auth.domain.CampaignCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 캠페인 내보내기(NDJSON) 한 줄에 해당하는 DTO
+ */
+@Getter
+@Builder
+public class CampaignExportRow {
+
+    private final Long id;
+    private final String title;
+    private final String campaignType;
+    private final String approvalStatus;
+    private final String recruitmentStatus;
+    private final String lifecyclePhase;
+    private final String categoryType;
+    private final String categoryName;
+    private final Integer currentApplicants;
+    private final Integer maxApplicants;
+    private final LocalDate recruitmentStartDate;
+    private final LocalDate applicationDeadlineDate;
+    private final ZonedDateTime createdAt;
+    private final ZonedDateTime updatedAt;
+
+    /**
+     * 저장소 내보내기 스트림의 행을 변환합니다. (CampaignRepository.streamExportRows 컬럼 순서)
+     */
+    public static CampaignExportRow fromRow(Object[] row) {
+        return CampaignExportRow.builder()
+                .id((Long) row[0])
+                .title((String) row[1])
+                .campaignType((String) row[2])
+                .approvalStatus(nameOf((Campaign.ApprovalStatus) row[3]))
+                .recruitmentStatus(nameOf((Campaign.RecruitmentStatus) row[4]))
+                .lifecyclePhase(nameOf((Campaign.LifecyclePhase) row[5]))
+                .categoryType(nameOf((CampaignCategory.CategoryType) row[6]))
+                .categoryName((String) row[7])
+                .currentApplicants((Integer) row[8])
+                .maxApplicants((Integer) row[9])
+                .recruitmentStartDate((LocalDate) row[10])
+                .applicationDeadlineDate((LocalDate) row[11])
+                .createdAt((ZonedDateTime) row[12])
+                .updatedAt((ZonedDateTime) row[13])
+                .build();
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
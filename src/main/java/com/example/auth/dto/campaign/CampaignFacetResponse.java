@@ -0,0 +1,44 @@
+package com.example.auth.dto.campaign;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 목록 필터 칩별 캠페인 수 응답 DTO
+ * 각 필터의 개수는 다른 필터 선택 상태를 반영합니다.
+ * (예: 카테고리명별 개수는 선택된 플랫폼 조건을 적용한 결과)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "필터별 캠페인 수")
+public class CampaignFacetResponse {
+
+    @Schema(description = "카테고리명별 캠페인 수 (선택된 플랫폼 조건 적용)")
+    private List<FacetCount> categoryNames;
+
+    @Schema(description = "플랫폼(캠페인 타입)별 캠페인 수 (선택된 카테고리명 조건 적용)")
+    private List<FacetCount> campaignTypes;
+
+    /**
+     * 필터 값과 캠페인 수
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "필터 값별 캠페인 수")
+    public static class FacetCount {
+        @Schema(description = "필터 값", example = "맛집")
+        private String value;
+
+        @Schema(description = "캠페인 수", example = "42")
+        private long count;
+    }
+}
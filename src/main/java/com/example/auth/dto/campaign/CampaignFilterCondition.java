@@ -0,0 +1,88 @@
+package com.example.auth.dto.campaign;
+
+import com.example.auth.constant.CampaignSortType;
+import com.example.auth.domain.CampaignCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 캠페인 목록 조회 조건
+ * 필터(카테고리 타입/이름, 캠페인 타입, 키워드)와 정렬 기준을 하나로 묶어 저장소 조회에 전달합니다.
+ * 모든 정렬 기준은 기본적으로 모집 중인 캠페인을 먼저 보여줍니다.
+ */
+@Getter
+@Builder
+public class CampaignFilterCondition {
+
+    private final CampaignCategory.CategoryType categoryType;  // 카테고리 타입 (null이면 전체)
+
+    private final String categoryName;  // 카테고리명 (null이면 전체)
+
+    private final List<String> campaignTypes;  // 캠페인 타입 목록 (비어 있으면 전체)
+
+    private final String keyword;  // 제목 검색 키워드 (null이면 전체)
+
+    private final List<Long> campaignIds;  // 조회 대상 캠페인 ID 목록 (검색 색인 결과 등, null이면 전체)
+
+    @Builder.Default
+    private final CampaignSortType sortType = CampaignSortType.LATEST;  // 정렬 기준
+
+    @Builder.Default
+    private final boolean recruitingFirst = true;  // 모집 중인 캠페인을 먼저 정렬할지 여부
+
+    @Builder.Default
+    private final LocalDate currentDate = LocalDate.now();  // 조회 기준일 (캐시 키/홈 피드 기준일, 정렬은 저장된 모집 상태 사용)
+
+    public boolean hasCampaignTypes() {
+        return campaignTypes != null && !campaignTypes.isEmpty();
+    }
+
+    public boolean hasCategoryName() {
+        return categoryName != null && !categoryName.isEmpty();
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isEmpty();
+    }
+
+    public boolean hasCampaignIds() {
+        return campaignIds != null;
+    }
+
+    /**
+     * 캐시 키로 사용할 정규화된 조건 문자열
+     * 캠페인 타입은 IN 조건이므로 순서와 중복을 무시하고, 모집 우선 정렬이면 기준일을 포함해 날짜가 바뀌면 새 키를 사용합니다.
+     */
+    public String toCacheKey() {
+        String types = hasCampaignTypes()
+                ? campaignTypes.stream().distinct().sorted().collect(Collectors.joining(","))
+                : "";
+        return String.join("|",
+                categoryType != null ? categoryType.name() : "",
+                hasCategoryName() ? categoryName : "",
+                types,
+                hasKeyword() ? keyword.toLowerCase() : "",
+                hasCampaignIds() ? campaignIds.stream().sorted().map(String::valueOf).collect(Collectors.joining(",")) : "",
+                sortType.name(),
+                recruitingFirst ? currentDate.toString() : "");
+    }
+
+    /**
+     * 해당 속성을 가진 캠페인이 이 조건의 조회 결과에 포함될 수 있는지 확인합니다.
+     * 키워드와 ID 목록은 판단할 수 없으므로 포함 가능한 것으로 간주합니다.
+     */
+    public boolean mayInclude(CampaignCategory.CategoryType type, String name, String campaignType) {
+        if (categoryType != null && categoryType != type) {
+            return false;
+        }
+        if (hasCategoryName() && !Objects.equals(categoryName, name)) {
+            return false;
+        }
+        return !hasCampaignTypes() || campaignTypes.contains(campaignType);
+    }
+}
@@ -39,4 +39,11 @@ public class CampaignKeywordsResponse {
                 .missionKeywords(keywords)
                 .build();
     }
+    
+    public static CampaignKeywordsResponse fromSnapshot(CampaignDetailSnapshot snapshot) {
+        return CampaignKeywordsResponse.builder()
+                .campaignId(snapshot.getCampaignId())
+                .missionKeywords(snapshot.getMissionKeywords())
+                .build();
+    }
 }
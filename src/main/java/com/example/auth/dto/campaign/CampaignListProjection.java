@@ -0,0 +1,32 @@
+package com.example.auth.dto.campaign;
+
+import com.example.auth.domain.Campaign;
+import com.example.auth.domain.CampaignCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 캠페인 목록 조회용 프로젝션
+ * 목록 응답과 정렬/커서에 필요한 컬럼만 조회하여 TEXT 컬럼(상세 정보, 미션 가이드 등)과
+ * 엔티티 영속성 컨텍스트 적재를 피합니다. 생성자 인자 순서는 저장소의 select 순서와 같아야 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CampaignListProjection {
+
+    private final Long id;
+    private final String campaignType;
+    private final String title;
+    private final String productShortInfo;
+    private final Integer maxApplicants;
+    private final Integer currentApplicants;  // 비정규화 카운터 (인기순 커서용)
+    private final LocalDate applicationDeadlineDate;
+    private final String thumbnailUrl;
+    private final CampaignCategory.CategoryType categoryType;
+    private final String categoryName;
+    private final ZonedDateTime createdAt;
+    private final Campaign.RecruitmentStatus recruitmentStatus;  // 모집 중 우선 정렬 키 (커서용)
+}
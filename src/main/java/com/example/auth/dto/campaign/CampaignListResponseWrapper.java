@@ -1,5 +1,6 @@
 package com.example.auth.dto.campaign;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,6 +25,10 @@ public class CampaignListResponseWrapper {
     
     @Schema(description = "페이징 정보")
     private PaginationInfo pagination;
+
+    @Schema(description = "필터별 캠페인 수 (includeFacets=true일 때만 포함)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CampaignFacetResponse facets;
     
     /**
      * 페이징 정보를 담는 내부 클래스
@@ -51,5 +56,8 @@ public class CampaignListResponseWrapper {
         
         @Schema(description = "마지막 페이지 여부", example = "false")
         private boolean last;
+
+        @Schema(description = "전체 항목 수가 정확한 값인지 여부 (false면 추정값)", example = "true")
+        private boolean totalExact;
     }
 }
@@ -85,4 +85,28 @@ public class CampaignListSimpleResponse {
 
         return builder.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 목록 조회 프로젝션에서 간소화된 DTO로 변환
+     */
+    public static CampaignListSimpleResponse fromProjection(CampaignListProjection projection) {
+        CampaignListSimpleResponse.CampaignListSimpleResponseBuilder builder = CampaignListSimpleResponse.builder()
+                .id(projection.getId())
+                .campaignType(projection.getCampaignType())
+                .title(projection.getTitle())
+                .productShortInfo(projection.getProductShortInfo())
+                .currentApplicants(projection.getCurrentApplicants() != null ? projection.getCurrentApplicants() : 0)
+                .maxApplicants(projection.getMaxApplicants())
+                .applicationDeadlineDate(projection.getApplicationDeadlineDate())
+                .thumbnailUrl(projection.getThumbnailUrl());
+
+        if (projection.getCategoryType() != null) {
+            builder.category(CategoryInfo.builder()
+                    .type(projection.getCategoryType().name())
+                    .name(projection.getCategoryName())
+                    .build());
+        }
+
+        return builder.build();
+    }
+}
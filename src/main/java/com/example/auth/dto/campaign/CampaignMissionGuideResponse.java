@@ -24,4 +24,11 @@ public class CampaignMissionGuideResponse {
                 .missionGuide(campaign.getMissionGuide())
                 .build();
     }
+    
+    public static CampaignMissionGuideResponse fromSnapshot(CampaignDetailSnapshot snapshot) {
+        return CampaignMissionGuideResponse.builder()
+                .campaignId(snapshot.getCampaignId())
+                .missionGuide(snapshot.getMissionGuide())
+                .build();
+    }
 }
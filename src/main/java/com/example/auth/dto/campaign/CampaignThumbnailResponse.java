@@ -24,4 +24,11 @@ public class CampaignThumbnailResponse {
                 .thumbnailUrl(campaign.getThumbnailUrl())
                 .build();
     }
+    
+    public static CampaignThumbnailResponse fromSnapshot(CampaignDetailSnapshot snapshot) {
+        return CampaignThumbnailResponse.builder()
+                .campaignId(snapshot.getCampaignId())
+                .thumbnailUrl(snapshot.getThumbnailUrl())
+                .build();
+    }
 }
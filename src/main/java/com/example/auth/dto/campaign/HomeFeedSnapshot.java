@@ -0,0 +1,24 @@
+package com.example.auth.dto.campaign;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 홈 피드 스냅샷 (정렬 기준 x 카테고리 타입 조합별 상위 N개 캠페인)
+ * 스케줄러가 주기적으로 생성하여 Redis와 각 서버 메모리에 보관하며, 목록 첫 페이지 요청에 그대로 사용됩니다.
+ */
+@Getter
+@Builder
+@Jacksonized
+public class HomeFeedSnapshot {
+
+    private final List<CampaignListSimpleResponse> campaigns;  // 상위 N개 캠페인 (정렬 순서 유지)
+    private final long totalElements;  // 생성 시점의 조건별 전체 캠페인 수
+    private final LocalDate baseDate;  // 모집 중/마감 구분 기준일
+    private final ZonedDateTime generatedAt;  // 생성 시간
+}
@@ -0,0 +1,31 @@
+package com.example.auth.dto.campaign;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 마커 클러스터 응답 DTO
+ * 위치가 하나뿐인 클러스터는 해당 캠페인 ID를 함께 반환하여 바로 상세 화면으로 이동할 수 있게 합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 마커 클러스터")
+public class MapClusterResponse {
+
+    @Schema(description = "클러스터 중심 위도", example = "37.5665", required = true)
+    private Double latitude;
+
+    @Schema(description = "클러스터 중심 경도", example = "126.978", required = true)
+    private Double longitude;
+
+    @Schema(description = "클러스터에 포함된 방문 위치 수", example = "12", required = true)
+    private Integer count;
+
+    @Schema(description = "위치가 하나뿐인 클러스터의 캠페인 ID (여러 개면 null)", example = "1")
+    private Long campaignId;
+}
@@ -0,0 +1,28 @@
+package com.example.auth.dto.campaign;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주변 방문형 캠페인 조회 응답 DTO
+ * 목록 항목과 함께 가장 가까운 방문 위치까지의 거리를 포함합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 방문형 캠페인 항목")
+public class NearbyCampaignResponse {
+
+    @Schema(description = "캠페인 정보", required = true)
+    private CampaignListSimpleResponse campaign;
+
+    @Schema(description = "가장 가까운 방문 위치까지의 거리 (미터)", example = "850", required = true)
+    private Integer distanceMeters;
+
+    @Schema(description = "가장 가까운 방문 위치 주소", example = "서울특별시 강남구 테헤란로 123")
+    private String address;
+}
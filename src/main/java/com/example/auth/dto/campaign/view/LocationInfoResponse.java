@@ -1,6 +1,7 @@
 package com.example.auth.dto.campaign.view;
 
 import com.example.auth.domain.Campaign;
+import com.example.auth.domain.VisitLocation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,7 +31,7 @@ public class LocationInfoResponse {
     @Schema(description = "카테고리 정보")
     public static class CategoryDTO {
         @Schema(description = "카테고리 ID", example = "1")
-        private Integer id;
+        private Long id;
         
         @Schema(description = "카테고리 유형", example = "카페")
         private String categoryType;
@@ -61,16 +62,16 @@ public class LocationInfoResponse {
         private String additionalInfo;
     }
     
-    public static LocationInfoResponse fromEntity(Campaign campaign) {
+    public static LocationInfoResponse fromEntity(Campaign campaign, List<VisitLocation> visitLocations) {
         // 카테고리 정보 변환
         CategoryDTO categoryDTO = CategoryDTO.builder()
                 .id(campaign.getCategory().getId())
-                .categoryType(campaign.getCategory().getCategoryType())
+                .categoryType(campaign.getCategory().getCategoryType().getValue())
                 .categoryName(campaign.getCategory().getCategoryName())
                 .build();
                 
         // 방문 위치 정보 변환
-        List<VisitLocationDTO> visitLocationDTOs = campaign.getVisitLocations().stream()
+        List<VisitLocationDTO> visitLocationDTOs = visitLocations.stream()
                 .map(location -> VisitLocationDTO.builder()
                         .id(location.getId())
                         .address(location.getAddress())
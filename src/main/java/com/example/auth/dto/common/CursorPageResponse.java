@@ -0,0 +1,34 @@
+package com.example.auth.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이징 응답을 위한 공통 DTO
+ * 전체 건수를 세지 않고 다음 페이지 존재 여부와 다음 커서만 제공합니다.
+ * @param <T> 페이징 데이터 항목의 타입
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 페이징 응답")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "조회된 데이터 목록")
+    private List<T> content;
+
+    @Schema(description = "페이지 크기", example = "10")
+    private int pageSize;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지이면 null)", example = "djF8TEFURVNUfDB8fDIwMjUtMDYtMDFUMDA6MDA6MDBafHw0Mg")
+    private String nextCursor;
+}
@@ -42,6 +42,17 @@ public class PageResponse<T> {
 
     @Schema(description = "마지막 페이지 여부", example = "false")
     private boolean last;
+
+    @Schema(description = "전체 항목 수가 정확한 값인지 여부 (false면 캐시된 집계로 추정한 값)", example = "true")
+    private boolean totalExact;
+
+    /**
+     * 정확한 전체 건수로 페이징 응답을 생성합니다.
+     */
+    public PageResponse(List<T> content, int pageNumber, int pageSize, int totalPages, long totalElements,
+                        boolean first, boolean last) {
+        this(content, pageNumber, pageSize, totalPages, totalElements, first, last, true);
+    }
     
     /**
      * 페이징 정보만을 담는 내부 클래스
@@ -86,9 +97,23 @@ public class PageResponse<T> {
                 .totalElements(page.getTotalElements())
                 .first(page.isFirst())
                 .last(page.isLast())
+                .totalExact(true)
                 .build();
     }
     
+    /**
+     * Spring Data의 Page 객체로부터 PageResponse 객체를 생성합니다. (전체 건수 정확 여부 지정)
+     * @param page Spring Data Page 객체
+     * @param totalExact 전체 건수가 정확한 값인지 여부
+     * @param <T> 데이터 타입
+     * @return 생성된 PageResponse 객체
+     */
+    public static <T> PageResponse<T> from(Page<T> page, boolean totalExact) {
+        PageResponse<T> response = from(page);
+        response.setTotalExact(totalExact);
+        return response;
+    }
+
     /**
      * Spring Data의 Page 객체로부터 변환 함수를 적용하여 PageResponse 객체를 생성합니다.
      * @param page Spring Data Page 객체
@@ -110,6 +135,7 @@ public class PageResponse<T> {
                 .totalElements(page.getTotalElements())
                 .first(page.isFirst())
                 .last(page.isLast())
+                .totalExact(true)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.auth.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캠페인 대기 신청자 수(PENDING) 변경 이벤트
+ * 신청 생성/취소/상태 변경으로 신청자 수 카운터가 바뀌었을 때 발행됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CampaignApplicantCountChangedEvent {
+
+    private final Long campaignId;
+    private final int delta;  // 신청자 수 증감량
+}
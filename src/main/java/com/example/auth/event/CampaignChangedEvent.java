@@ -0,0 +1,71 @@
+package com.example.auth.event;
+
+import com.example.auth.domain.Campaign;
+import com.example.auth.domain.CampaignCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캠페인 생성/수정/삭제 이벤트
+ * 목록 캐시 등 캠페인 데이터를 복제해 두는 컴포넌트가 커밋 이후 무효화에 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CampaignChangedEvent {
+
+    private final Long campaignId;
+    private final ChangeType changeType;
+    private final Attributes current;  // 변경 후 필터 속성 (썸네일 변경/삭제 시 null)
+    private final Attributes previous;  // 변경 전 필터 속성 (생성/썸네일 변경 시 null)
+
+    public static CampaignChangedEvent created(Campaign campaign) {
+        return new CampaignChangedEvent(campaign.getId(), ChangeType.CREATED, Attributes.of(campaign), null);
+    }
+
+    public static CampaignChangedEvent updated(Campaign campaign, Attributes previous) {
+        return new CampaignChangedEvent(campaign.getId(), ChangeType.UPDATED, Attributes.of(campaign), previous);
+    }
+
+    /**
+     * 캠페인이 삭제된 경우 - 삭제 전 속성으로 해당 캠페인이 포함될 수 있던 목록을 무효화합니다.
+     */
+    public static CampaignChangedEvent deleted(Campaign campaign) {
+        return new CampaignChangedEvent(campaign.getId(), ChangeType.DELETED, null, Attributes.of(campaign));
+    }
+
+    /**
+     * 썸네일만 바뀐 경우 - 목록 순서/필터에는 영향이 없으므로 속성을 담지 않습니다.
+     */
+    public static CampaignChangedEvent thumbnailUpdated(Long campaignId) {
+        return new CampaignChangedEvent(campaignId, ChangeType.THUMBNAIL_UPDATED, null, null);
+    }
+
+    /**
+     * 변경 유형
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        THUMBNAIL_UPDATED,
+        DELETED
+    }
+
+    /**
+     * 목록 필터링에 쓰이는 캠페인 속성
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Attributes {
+        private final CampaignCategory.CategoryType categoryType;
+        private final String categoryName;
+        private final String campaignType;
+
+        public static Attributes of(Campaign campaign) {
+            CampaignCategory category = campaign.getCategory();
+            return new Attributes(
+                    category != null ? category.getCategoryType() : null,
+                    category != null ? category.getCategoryName() : null,
+                    campaign.getCampaignType());
+        }
+    }
+}
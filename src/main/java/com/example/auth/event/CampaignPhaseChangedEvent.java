@@ -0,0 +1,19 @@
+package com.example.auth.event;
+
+import com.example.auth.domain.Campaign;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캠페인 진행 단계 변경 이벤트
+ * 일정상 단계 경계(모집 시작, 신청 마감, 선정, 리뷰 마감)가 지나 저장된 진행 단계가 바뀌었을 때 발행됩니다.
+ * 여러 서버 중 DB의 단계를 실제로 변경한 서버에서 한 번만 발행됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CampaignPhaseChangedEvent {
+
+    private final Long campaignId;
+    private final Campaign.LifecyclePhase previousPhase;  // 이전 단계 (처음 계산된 경우 null)
+    private final Campaign.LifecyclePhase currentPhase;
+}
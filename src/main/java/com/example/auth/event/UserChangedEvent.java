@@ -0,0 +1,21 @@
+package com.example.auth.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 변경 이벤트
+ * 권한 변경이나 탈퇴처럼 사용자 정보를 캐시한 곳에서 다시 읽어야 하는 변경이 있을 때 발행됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    public enum ChangeType {
+        ROLE_UPDATED,
+        DELETED
+    }
+
+    private final Long userId;
+    private final ChangeType changeType;
+}
@@ -0,0 +1,19 @@
+package com.example.auth.exception;
+
+/**
+ * 요청이 몰려 처리 한도를 넘었을 때 발생하는 예외
+ * 클라이언트는 retryAfterSeconds 이후 다시 요청할 수 있습니다.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
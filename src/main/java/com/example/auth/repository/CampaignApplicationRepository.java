@@ -7,10 +7,13 @@ import com.example.auth.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -124,6 +127,18 @@ public interface CampaignApplicationRepository extends JpaRepository<CampaignApp
     @Query("SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign.id = :campaignId AND ca.applicationStatus = 'PENDING'")
     long countCurrentApplicantsByCampaignId(@Param("campaignId") Long campaignId);
     
+    /**
+     * 특정 사용자의 특정 상태 신청 수를 캠페인별로 조회합니다. (탈퇴 시 신청자 수 카운터 보정용)
+     * @param userId 신청자 ID
+     * @param applicationStatus 신청 상태
+     * @return [campaignId, count] 목록
+     */
+    @Query("SELECT ca.campaign.id, COUNT(ca) FROM CampaignApplication ca " +
+           "WHERE ca.user.id = :userId AND ca.applicationStatus = :applicationStatus " +
+           "GROUP BY ca.campaign.id")
+    List<Object[]> countByUserIdAndApplicationStatusGroupByCampaign(@Param("userId") Long userId,
+                                                                    @Param("applicationStatus") ApplicationStatus applicationStatus);
+
     /**
      * 특정 사용자의 모든 캠페인 신청을 삭제합니다.
      * @param userId 신청자 ID
@@ -189,4 +204,57 @@ public interface CampaignApplicationRepository extends JpaRepository<CampaignApp
            "WHERE c.creator = :creator " +
            "ORDER BY ca.createdAt DESC")
     Page<CampaignApplication> findByCampaignCreatedBy(@Param("creator") User creator, Pageable pageable);
+    
+    /**
+     * 특정 캠페인의 신청 목록을 신청자 정보와 함께 페이징 조회합니다. (신청자 목록 화면용)
+     * @param campaignId 캠페인 ID
+     * @param pageable 페이징 정보
+     * @return 신청자(User)가 함께 로딩된 페이징된 신청 목록
+     */
+    @Query(value = "SELECT ca FROM CampaignApplication ca " +
+                   "JOIN FETCH ca.user u " +
+                   "WHERE ca.campaign.id = :campaignId",
+           countQuery = "SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign.id = :campaignId")
+    Page<CampaignApplication> findWithUserByCampaignId(@Param("campaignId") Long campaignId, Pageable pageable);
+    
+    /**
+     * 특정 캠페인의 특정 상태 신청 목록을 신청자 정보와 함께 페이징 조회합니다. (신청자 목록 화면용)
+     * @param campaignId 캠페인 ID
+     * @param applicationStatus 신청 상태
+     * @param pageable 페이징 정보
+     * @return 신청자(User)가 함께 로딩된 페이징된 신청 목록
+     */
+    @Query(value = "SELECT ca FROM CampaignApplication ca " +
+                   "JOIN FETCH ca.user u " +
+                   "WHERE ca.campaign.id = :campaignId AND ca.applicationStatus = :applicationStatus",
+           countQuery = "SELECT COUNT(ca) FROM CampaignApplication ca " +
+                        "WHERE ca.campaign.id = :campaignId AND ca.applicationStatus = :applicationStatus")
+    Page<CampaignApplication> findWithUserByCampaignIdAndApplicationStatus(@Param("campaignId") Long campaignId,
+                                                                           @Param("applicationStatus") ApplicationStatus applicationStatus,
+                                                                           Pageable pageable);
+    
+    /**
+     * 캠페인에 속한 신청들의 현재 상태를 조회합니다. [id, applicationStatus]
+     * @param campaignId 캠페인 ID
+     * @param applicationIds 신청 ID 목록
+     * @return 캠페인에 속한 신청만 포함
+     */
+    @Query("SELECT ca.id, ca.applicationStatus FROM CampaignApplication ca " +
+           "WHERE ca.campaign.id = :campaignId AND ca.id IN :applicationIds")
+    List<Object[]> findStatusRowsByCampaignIdAndIdIn(@Param("campaignId") Long campaignId,
+                                                     @Param("applicationIds") Collection<Long> applicationIds);
+    
+    /**
+     * 신청 상태를 일괄 변경합니다. 현재 상태가 expectedStatus인 신청만 변경되므로,
+     * 반환된 수가 요청한 수와 다르면 그 사이 다른 요청이 상태를 바꾼 것입니다.
+     * @return 변경된 신청 수
+     */
+    @Modifying
+    @Query("UPDATE CampaignApplication ca SET ca.applicationStatus = :targetStatus, ca.updatedAt = :updatedAt " +
+           "WHERE ca.campaign.id = :campaignId AND ca.id IN :applicationIds AND ca.applicationStatus = :expectedStatus")
+    int updateStatusIfMatches(@Param("campaignId") Long campaignId,
+                              @Param("applicationIds") Collection<Long> applicationIds,
+                              @Param("expectedStatus") ApplicationStatus expectedStatus,
+                              @Param("targetStatus") ApplicationStatus targetStatus,
+                              @Param("updatedAt") ZonedDateTime updatedAt);
 }
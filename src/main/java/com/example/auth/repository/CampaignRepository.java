@@ -1,22 +1,26 @@
 package com.example.auth.repository;
 
 import com.example.auth.domain.Campaign;
-import com.example.auth.domain.CampaignCategory;
 import com.example.auth.domain.Company;
 import com.example.auth.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CampaignRepository extends JpaRepository<Campaign, Long> {
+public interface CampaignRepository extends JpaRepository<Campaign, Long>, CampaignRepositoryCustom {
     
     // ===== 자동완성용 제목만 조회 메서드 =====
     
@@ -70,24 +74,19 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
     Optional<Campaign> findByIdAndApprovalStatus(Long id, Campaign.ApprovalStatus approvalStatus);
     Page<Campaign> findByApprovalStatus(Campaign.ApprovalStatus approvalStatus, Pageable pageable);
     
-    // 승인된 활성 캠페인 조회 (마감되지 않은 캠페인)
-    Page<Campaign> findByApprovalStatusAndApplicationDeadlineDateGreaterThanEqual(
-            Campaign.ApprovalStatus approvalStatus, LocalDate currentDate, Pageable pageable);
+    // 상세 스냅샷 생성용 - 카테고리를 함께 조회하여 한 번의 쿼리로 상세 화면 데이터를 구성
+    @Query("SELECT c FROM Campaign c LEFT JOIN FETCH c.category WHERE c.id = :id")
+    Optional<Campaign> findDetailById(@Param("id") Long id);
     
-    // 카테고리별 승인된 캠페인 페이지네이션 조회
-    Page<Campaign> findByApprovalStatusAndCategory(
-            Campaign.ApprovalStatus approvalStatus, CampaignCategory category, Pageable pageable);
+    // 검색 색인 구성용 - [id, title, productShortInfo, createdAt, recruitmentStatus, missionKeywords]
+    // 목록 조회와 같은 대상이 되도록 카테고리가 있는 캠페인만 포함
+    @Query("SELECT c.id, c.title, c.productShortInfo, c.createdAt, c.recruitmentStatus, c.missionKeywords " +
+           "FROM Campaign c JOIN c.category")
+    List<Object[]> findAllSearchIndexRows();
     
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryType(
-            Campaign.ApprovalStatus approvalStatus, CampaignCategory.CategoryType categoryType, Pageable pageable);
-    
-    // 캠페인 타입별 승인된 캠페인 페이지네이션 조회
-    Page<Campaign> findByApprovalStatusAndCampaignType(
-            Campaign.ApprovalStatus approvalStatus, String campaignType, Pageable pageable);
-    
-    // 캠페인 타입별 활성 캠페인 조회
-    Page<Campaign> findByApprovalStatusAndCampaignTypeAndApplicationDeadlineDateGreaterThanEqual(
-            Campaign.ApprovalStatus approvalStatus, String campaignType, LocalDate currentDate, Pageable pageable);
+    @Query("SELECT c.id, c.title, c.productShortInfo, c.createdAt, c.recruitmentStatus, c.missionKeywords " +
+           "FROM Campaign c JOIN c.category WHERE c.id = :id")
+    List<Object[]> findSearchIndexRowById(@Param("id") Long id);
     
     // 현재 유효한 신청 인원수 조회를 위한 쿼리 (PENDING 상태만)
     @Query("SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign.id = :campaignId AND ca.applicationStatus = 'PENDING'")
@@ -99,169 +98,119 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
            "GROUP BY ca.campaign.id")
     List<Object[]> countCurrentApplicationsByCampaignIds(@Param("campaignIds") List<Long> campaignIds);
     
-    // 신청 인원수로 정렬된 승인된 캠페인 조회 (신청 많은 순)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.approvalStatus = :approvalStatus AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByApprovalStatusOrderByCurrentApplicantsDesc(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus, Pageable pageable);
-    
-    // 신청 인원수로 정렬된 활성 캠페인 조회 (신청 많은 순)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.applicationDeadlineDate >= :currentDate " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByApprovalStatusAndApplicationDeadlineDateGreaterThanEqualOrderByCurrentApplicantsDesc(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus, 
-            @Param("currentDate") LocalDate currentDate, Pageable pageable);
-    
-    // 카테고리별 신청 인원수로 정렬된 캠페인 조회 (신청 많은 순)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.category.categoryType = :categoryType " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryTypeOrderByCurrentApplicantsDesc(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus, 
-            @Param("categoryType") CampaignCategory.CategoryType categoryType, Pageable pageable);
-    
-    // 캠페인 타입별 신청 인원수로 정렬된 캠페인 조회 (신청 많은 순)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.campaignType = :campaignType " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByApprovalStatusAndCampaignTypeOrderByCurrentApplicantsDesc(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus, 
-            @Param("campaignType") String campaignType, Pageable pageable);
-    
-    // ===== 세분화된 필터링을 위한 새로운 메서드들 =====
-    
-    // 카테고리명으로 활성 캠페인 조회
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryNameAndApplicationDeadlineDateGreaterThanEqual(
-            Campaign.ApprovalStatus approvalStatus, String categoryName, LocalDate currentDate, Pageable pageable);
-    
-    // 카테고리 타입으로 활성 캠페인 조회  
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryTypeAndApplicationDeadlineDateGreaterThanEqual(
-            Campaign.ApprovalStatus approvalStatus, CampaignCategory.CategoryType categoryType, 
-            LocalDate currentDate, Pageable pageable);
-    
-    // 카테고리 타입과 카테고리명으로 활성 캠페인 조회
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryTypeAndCategoryCategoryNameAndApplicationDeadlineDateGreaterThanEqual(
-            Campaign.ApprovalStatus approvalStatus, CampaignCategory.CategoryType categoryType, 
-            String categoryName, LocalDate currentDate, Pageable pageable);
+    // ===== 신청자 수 비정규화 카운터 =====
     
-    // 카테고리 타입과 캠페인 타입들로 활성 캠페인 조회
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryTypeAndCampaignTypeInAndApplicationDeadlineDateGreaterThanEqual(
-            Campaign.ApprovalStatus approvalStatus, CampaignCategory.CategoryType categoryType, 
-            List<String> campaignTypes, LocalDate currentDate, Pageable pageable);
-    
-    // 카테고리 타입, 카테고리명, 캠페인 타입들로 활성 캠페인 조회
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryTypeAndCategoryCategoryNameAndCampaignTypeInAndApplicationDeadlineDateGreaterThanEqual(
-            Campaign.ApprovalStatus approvalStatus, CampaignCategory.CategoryType categoryType, 
-            String categoryName, List<String> campaignTypes, LocalDate currentDate, Pageable pageable);
-    
-    // 복합 조건 필터링 (카테고리명 + 캠페인 타입들)
-    @Query("SELECT c FROM Campaign c " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.category.categoryType = :categoryType " +
-           "AND c.category.categoryName = :categoryName " +
-           "AND c.campaignType IN :campaignTypes " +
-           "AND c.applicationDeadlineDate >= :currentDate")
-    Page<Campaign> findFilteredCampaigns(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus,
-            @Param("categoryType") CampaignCategory.CategoryType categoryType, 
-            @Param("categoryName") String categoryName,
-            @Param("campaignTypes") List<String> campaignTypes,
-            @Param("currentDate") LocalDate currentDate,
-            Pageable pageable);
-    
-    // 캠페인 타입들만으로 필터링
-    @Query("SELECT c FROM Campaign c " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.category.categoryType = :categoryType " +
-           "AND c.campaignType IN :campaignTypes " +
-           "AND c.applicationDeadlineDate >= :currentDate")
-    Page<Campaign> findFilteredCampaignsByTypes(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus,
-            @Param("categoryType") CampaignCategory.CategoryType categoryType,
-            @Param("campaignTypes") List<String> campaignTypes,
-            @Param("currentDate") LocalDate currentDate,
-            Pageable pageable);
-    
-    // 복합 조건 + 인기순 정렬
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.category.categoryType = :categoryType " +
-           "AND c.category.categoryName = :categoryName " +
-           "AND c.campaignType IN :campaignTypes " +
-           "AND c.applicationDeadlineDate >= :currentDate " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findFilteredCampaignsOrderByPopularity(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus,
-            @Param("categoryType") CampaignCategory.CategoryType categoryType,
-            @Param("categoryName") String categoryName,
-            @Param("campaignTypes") List<String> campaignTypes,
-            @Param("currentDate") LocalDate currentDate,
-            Pageable pageable);
-    
-    // 캠페인 타입들만 + 인기순 정렬
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.category.categoryType = :categoryType " +
-           "AND c.campaignType IN :campaignTypes " +
-           "AND c.applicationDeadlineDate >= :currentDate " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findFilteredCampaignsByTypesOrderByPopularity(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus,
-            @Param("categoryType") CampaignCategory.CategoryType categoryType,
-            @Param("campaignTypes") List<String> campaignTypes,
-            @Param("currentDate") LocalDate currentDate,
-            Pageable pageable);
+    /**
+     * 캠페인의 현재 신청자 수(PENDING) 카운터를 증감합니다. (0 미만으로 내려가지 않음)
+     * 엔티티 flush와 무관하게 DB에서 원자적으로 갱신되므로 동시 신청에도 유실되지 않습니다.
+     */
+    // 상세 화면 신청 인원 조회용 (스냅샷과 별도로 짧게 캐시)
+    @Query("SELECT c.currentApplicants FROM Campaign c WHERE c.id = :campaignId")
+    Optional<Integer> findCurrentApplicantsById(@Param("campaignId") Long campaignId);
+
+    @Modifying
+    @Query("UPDATE Campaign c SET c.currentApplicants = " +
+           "CASE WHEN c.currentApplicants + :delta < 0 THEN 0 ELSE c.currentApplicants + :delta END " +
+           "WHERE c.id = :campaignId")
+    int adjustCurrentApplicants(@Param("campaignId") Long campaignId, @Param("delta") int delta);
     
-    // 카테고리명으로 인기순 정렬
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.category.categoryName = :categoryName " +
-           "AND c.applicationDeadlineDate >= :currentDate " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryNameAndApplicationDeadlineDateGreaterThanEqualOrderByPopularity(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus, 
-            @Param("categoryName") String categoryName, 
-            @Param("currentDate") LocalDate currentDate, Pageable pageable);
+    /**
+     * 신청자 수 카운터를 실제 PENDING 신청 수와 비교하여 어긋난 캠페인만 보정합니다.
+     * @return 보정된 캠페인 수
+     */
+    @Modifying
+    @Query(value = "UPDATE campaigns c SET current_applicants = s.cnt " +
+                   "FROM (SELECT c2.id AS campaign_id, COUNT(ca.id) AS cnt FROM campaigns c2 " +
+                   "      LEFT JOIN campaign_applications ca " +
+                   "        ON ca.campaign_id = c2.id AND ca.application_status = 'PENDING' " +
+                   "      GROUP BY c2.id) s " +
+                   "WHERE c.id = s.campaign_id AND c.current_applicants <> s.cnt",
+           nativeQuery = true)
+    int reconcileCurrentApplicants();
+    
+    // ===== 모집 상태 =====
+
+    /**
+     * 신청 마감일이 지난 캠페인 중 아직 마감 상태가 아닌 캠페인을 일괄 마감 처리합니다.
+     * @param closed 마감 상태 (Campaign.RecruitmentStatus.CLOSED)
+     */
+    @Modifying
+    @Query("UPDATE Campaign c SET c.recruitmentStatus = :closed " +
+           "WHERE c.recruitmentStatus <> :closed AND c.applicationDeadlineDate < :currentDate")
+    int closeExpiredRecruitments(@Param("currentDate") LocalDate currentDate,
+                                 @Param("closed") Campaign.RecruitmentStatus closed);
+
+    /**
+     * 신청 마감일이 지나지 않았는데 모집 중이 아닌 캠페인을 모집 중으로 되돌립니다. (직접 수정 등으로 어긋난 경우 보정)
+     * @param recruiting 모집 중 상태 (Campaign.RecruitmentStatus.RECRUITING)
+     */
+    @Modifying
+    @Query("UPDATE Campaign c SET c.recruitmentStatus = :recruiting " +
+           "WHERE c.recruitmentStatus <> :recruiting AND c.applicationDeadlineDate >= :currentDate")
+    int reopenActiveRecruitments(@Param("currentDate") LocalDate currentDate,
+                                 @Param("recruiting") Campaign.RecruitmentStatus recruiting);
+
+    /**
+     * 캠페인 한 건의 모집 상태를 변경합니다. (이미 같은 상태면 변경하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Campaign c SET c.recruitmentStatus = :status " +
+           "WHERE c.id = :campaignId AND c.recruitmentStatus <> :status")
+    int updateRecruitmentStatus(@Param("campaignId") Long campaignId,
+                                @Param("status") Campaign.RecruitmentStatus status);
     
-    // 카테고리 타입으로 인기순 정렬
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.approvalStatus = :approvalStatus " +
-           "AND c.category.categoryType = :categoryType " +
-           "AND c.applicationDeadlineDate >= :currentDate " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByApprovalStatusAndCategoryCategoryTypeAndApplicationDeadlineDateGreaterThanEqualOrderByPopularity(
-            @Param("approvalStatus") Campaign.ApprovalStatus approvalStatus, 
-            @Param("categoryType") CampaignCategory.CategoryType categoryType, 
-            @Param("currentDate") LocalDate currentDate, Pageable pageable);
+    // ===== 진행 단계 =====
+
+    // 진행 단계 예약용 - 종료되지 않은 캠페인 [id, lifecyclePhase, recruitmentStartDate, applicationDeadlineDate, selectionDate, reviewDeadlineDate]
+    @Query("SELECT c.id, c.lifecyclePhase, c.recruitmentStartDate, c.applicationDeadlineDate, c.selectionDate, c.reviewDeadlineDate " +
+           "FROM Campaign c WHERE c.lifecyclePhase IS NULL OR c.lifecyclePhase <> :completed")
+    List<Object[]> findLifecycleRows(@Param("completed") Campaign.LifecyclePhase completed);
+
+    @Query("SELECT c.id, c.lifecyclePhase, c.recruitmentStartDate, c.applicationDeadlineDate, c.selectionDate, c.reviewDeadlineDate " +
+           "FROM Campaign c WHERE c.id = :campaignId")
+    List<Object[]> findLifecycleRowById(@Param("campaignId") Long campaignId);
+
+    /**
+     * 진행 단계를 변경합니다. 이전 단계가 일치할 때만 변경되므로 여러 서버가 동시에 처리해도 한 곳에서만 반영됩니다.
+     */
+    @Modifying
+    @Query("UPDATE Campaign c SET c.lifecyclePhase = :next " +
+           "WHERE c.id = :campaignId AND (c.lifecyclePhase = :previous OR (:previous IS NULL AND c.lifecyclePhase IS NULL))")
+    int updateLifecyclePhase(@Param("campaignId") Long campaignId,
+                             @Param("previous") Campaign.LifecyclePhase previous,
+                             @Param("next") Campaign.LifecyclePhase next);
+    
+    // ===== 신청 접수 =====
+
+    // 캠페인 소유자 확인용 등록자 ID
+    @Query("SELECT c.creator.id FROM Campaign c WHERE c.id = :campaignId")
+    Optional<Long> findCreatorIdById(@Param("campaignId") Long campaignId);
+
+    // 신청 접수용 캠페인 정보 [id, title, thumbnailUrl, productShortInfo, campaignType, applicationDeadlineDate]
+    @Query("SELECT c.id, c.title, c.thumbnailUrl, c.productShortInfo, c.campaignType, c.applicationDeadlineDate " +
+           "FROM Campaign c WHERE c.id = :campaignId")
+    List<Object[]> findApplicationIntakeRowById(@Param("campaignId") Long campaignId);
 
+    // ===== 내보내기 =====
+
+    /**
+     * 전체 캠페인 내보내기용 스트림 [id, title, campaignType, approvalStatus, recruitmentStatus, lifecyclePhase,
+     * categoryType, categoryName, currentApplicants, maxApplicants, recruitmentStartDate, applicationDeadlineDate,
+     * createdAt, updatedAt]
+     * 엔티티가 아닌 컬럼 값만 조회하므로 영속성 컨텍스트에 쌓이지 않으며, fetch size 단위로 커서에서 읽습니다.
+     * 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT c.id, c.title, c.campaignType, c.approvalStatus, c.recruitmentStatus, c.lifecyclePhase, " +
+           "cat.categoryType, cat.categoryName, c.currentApplicants, c.maxApplicants, " +
+           "c.recruitmentStartDate, c.applicationDeadlineDate, c.createdAt, c.updatedAt " +
+           "FROM Campaign c LEFT JOIN c.category cat ORDER BY c.id")
+    Stream<Object[]> streamExportRows();
+    
     // 관리자용 - 승인 대기 중인 캠페인 조회
     Page<Campaign> findByApprovalStatusOrderByCreatedAtDesc(
             Campaign.ApprovalStatus approvalStatus, Pageable pageable);
@@ -276,131 +225,6 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
             @Param("endDate") java.time.ZonedDateTime endDate,
             Pageable pageable);
 
-    // ===== 승인 상태 무관 조회 메서드들 =====
-    
-    // 카테고리 타입별 조회 (승인 상태 무관)
-    Page<Campaign> findByCategoryCategoryType(CampaignCategory.CategoryType categoryType, Pageable pageable);
-    
-    // 캠페인 타입별 조회 (승인 상태 무관)
-    Page<Campaign> findByCampaignType(String campaignType, Pageable pageable);
-    
-    // 카테고리 타입과 카테고리명으로 조회 (승인 상태 무관)
-    Page<Campaign> findByCategoryCategoryTypeAndCategoryCategoryName(
-            CampaignCategory.CategoryType categoryType, String categoryName, Pageable pageable);
-    
-    // 카테고리 타입과 캠페인 타입들로 조회 (승인 상태 무관)
-    Page<Campaign> findByCategoryCategoryTypeAndCampaignTypeIn(
-            CampaignCategory.CategoryType categoryType, List<String> campaignTypes, Pageable pageable);
-    
-    // 카테고리 타입, 카테고리명, 캠페인 타입들로 조회 (승인 상태 무관)
-    Page<Campaign> findByCategoryCategoryTypeAndCategoryCategoryNameAndCampaignTypeIn(
-            CampaignCategory.CategoryType categoryType, String categoryName, List<String> campaignTypes, Pageable pageable);
-
-    // ===== 승인 상태 무관 + 신청자 수 기준 정렬 메서드들 =====
-    
-    // 모든 캠페인을 신청자 수 기준으로 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findAllOrderByCurrentApplicantsDesc(Pageable pageable);
-    
-    // 카테고리별 신청자 수 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.category.categoryType = :categoryType " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByCategoryCategoryTypeOrderByCurrentApplicantsDesc(
-            @Param("categoryType") CampaignCategory.CategoryType categoryType, Pageable pageable);
-    
-    // 캠페인 타입별 신청자 수 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.campaignType = :campaignType " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByCampaignTypeOrderByCurrentApplicantsDesc(
-            @Param("campaignType") String campaignType, Pageable pageable);
-    
-    // 카테고리 타입과 카테고리명으로 신청자 수 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.category.categoryType = :categoryType " +
-           "AND c.category.categoryName = :categoryName " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByCategoryCategoryTypeAndCategoryCategoryNameOrderByCurrentApplicantsDesc(
-            @Param("categoryType") CampaignCategory.CategoryType categoryType, 
-            @Param("categoryName") String categoryName, Pageable pageable);
-    
-    // 카테고리 타입과 캠페인 타입들로 신청자 수 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.category.categoryType = :categoryType " +
-           "AND c.campaignType IN :campaignTypes " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByCategoryCategoryTypeAndCampaignTypeInOrderByCurrentApplicantsDesc(
-            @Param("categoryType") CampaignCategory.CategoryType categoryType, 
-            @Param("campaignTypes") List<String> campaignTypes, Pageable pageable);
-    
-    // 카테고리 타입, 카테고리명, 캠페인 타입들로 신청자 수 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.category.categoryType = :categoryType " +
-           "AND c.category.categoryName = :categoryName " +
-           "AND c.campaignType IN :campaignTypes " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> findByCategoryCategoryTypeAndCategoryCategoryNameAndCampaignTypeInOrderByCurrentApplicantsDesc(
-            @Param("categoryType") CampaignCategory.CategoryType categoryType, 
-            @Param("categoryName") String categoryName, 
-            @Param("campaignTypes") List<String> campaignTypes, Pageable pageable);
-    
-    // ===== 캠페인 검색 메소드들 =====
-    
-    /**
-     * 키워드로 캠페인 검색 (제목에서만 검색, 승인 상태 무관)
-     */
-    @Query("SELECT c FROM Campaign c " +
-           "WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "AND (:categoryType IS NULL OR c.category.categoryType = :categoryType) " +
-           "AND (:categoryName IS NULL OR c.category.categoryName = :categoryName) " +
-           "AND (:campaignType IS NULL OR c.campaignType = :campaignType) " +
-           "ORDER BY c.createdAt DESC")
-    Page<Campaign> searchByKeyword(
-            @Param("keyword") String keyword,
-            @Param("categoryType") CampaignCategory.CategoryType categoryType,
-            @Param("categoryName") String categoryName,
-            @Param("campaignType") String campaignType,
-            Pageable pageable);
-    
-    /**
-     * 키워드로 캠페인 검색 (제목에서만 검색, 인기순 정렬, 승인 상태 무관)
-     */
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "AND (:categoryType IS NULL OR c.category.categoryType = :categoryType) " +
-           "AND (:categoryName IS NULL OR c.category.categoryName = :categoryName) " +
-           "AND (:campaignType IS NULL OR c.campaignType = :campaignType) " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY COUNT(ca.id) DESC, c.createdAt DESC")
-    Page<Campaign> searchByKeywordOrderByPopularity(
-            @Param("keyword") String keyword,
-            @Param("categoryType") CampaignCategory.CategoryType categoryType,
-            @Param("categoryName") String categoryName,
-            @Param("campaignType") String campaignType,
-            Pageable pageable);
-    
     /**
      * CLIENT용 - 특정 생성자의 승인 상태별 캠페인 카운트를 조회합니다.
      */
@@ -464,69 +288,4 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
            "FROM CampaignApplication ca " +
            "WHERE ca.campaign.id = :campaignId")
     Object[] getCampaignStatistics(@Param("campaignId") Long campaignId);
-    
-    // ===== 모집 기간 우선 정렬 메소드들 =====
-    
-    // 모든 캠페인을 모집상태 + 인기순으로 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY " +
-           "CASE WHEN c.applicationDeadlineDate >= :currentDate THEN 0 ELSE 1 END, " +
-           "COUNT(ca.id) DESC, " +
-           "c.createdAt DESC")
-    Page<Campaign> findAllOrderByRecruitmentStatusAndPopularity(
-            @Param("currentDate") LocalDate currentDate, Pageable pageable);
-    
-    // 모든 캠페인을 모집상태 + 최신순으로 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "ORDER BY " +
-           "CASE WHEN c.applicationDeadlineDate >= :currentDate THEN 0 ELSE 1 END, " +
-           "c.createdAt DESC")
-    Page<Campaign> findAllOrderByRecruitmentStatusAndLatest(
-            @Param("currentDate") LocalDate currentDate, Pageable pageable);
-    
-    // 카테고리별 모집상태 + 인기순 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "LEFT JOIN c.applications ca " +
-           "WHERE c.category.categoryType = :categoryType " +
-           "AND (ca.applicationStatus = 'PENDING' OR ca IS NULL) " +
-           "GROUP BY c.id " +
-           "ORDER BY " +
-           "CASE WHEN c.applicationDeadlineDate >= :currentDate THEN 0 ELSE 1 END, " +
-           "COUNT(ca.id) DESC, " +
-           "c.createdAt DESC")
-    Page<Campaign> findByCategoryCategoryTypeOrderByRecruitmentStatusAndPopularity(
-            @Param("categoryType") CampaignCategory.CategoryType categoryType,
-            @Param("currentDate") LocalDate currentDate, 
-            Pageable pageable);
-    
-    // 카테고리별 모집상태 + 최신순 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "WHERE c.category.categoryType = :categoryType " +
-           "ORDER BY " +
-           "CASE WHEN c.applicationDeadlineDate >= :currentDate THEN 0 ELSE 1 END, " +
-           "c.createdAt DESC")
-    Page<Campaign> findByCategoryCategoryTypeOrderByRecruitmentStatusAndLatest(
-            @Param("categoryType") CampaignCategory.CategoryType categoryType,
-            @Param("currentDate") LocalDate currentDate, 
-            Pageable pageable);
-    
-    // 검색 결과를 모집상태 + 최신순으로 정렬 (승인 상태 무관)
-    @Query("SELECT c FROM Campaign c " +
-           "WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "AND (:categoryType IS NULL OR c.category.categoryType = :categoryType) " +
-           "AND (:categoryName IS NULL OR c.category.categoryName = :categoryName) " +
-           "AND (:campaignType IS NULL OR c.campaignType = :campaignType) " +
-           "ORDER BY " +
-           "CASE WHEN c.applicationDeadlineDate >= :currentDate THEN 0 ELSE 1 END, " +
-           "c.createdAt DESC")
-    Page<Campaign> searchByKeywordOrderByRecruitmentStatusAndLatest(
-            @Param("keyword") String keyword,
-            @Param("categoryType") CampaignCategory.CategoryType categoryType,
-            @Param("categoryName") String categoryName,
-            @Param("campaignType") String campaignType,
-            @Param("currentDate") LocalDate currentDate,
-            Pageable pageable);
-}
\ No newline at end of file
+}
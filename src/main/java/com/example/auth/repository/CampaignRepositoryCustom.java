@@ -0,0 +1,44 @@
+package com.example.auth.repository;
+
+import com.example.auth.dto.campaign.CampaignCursor;
+import com.example.auth.dto.campaign.CampaignFilterCondition;
+import com.example.auth.dto.campaign.CampaignListProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 동적 조건 캠페인 조회를 위한 커스텀 저장소
+ * 카테고리 타입/이름, 캠페인 타입, 키워드, 정렬 기준의 어떤 조합이든 하나의 쿼리로 조회합니다.
+ * 목록 조회는 엔티티 대신 목록 컬럼만 담은 프로젝션을 반환합니다.
+ */
+public interface CampaignRepositoryCustom {
+
+    /**
+     * 조건에 맞는 캠페인을 페이지 단위로 조회합니다.
+     * 마지막 페이지처럼 전체 건수를 알 수 있는 경우에는 COUNT 쿼리를 생략합니다.
+     * @param condition 필터/정렬 조건
+     * @param pageable 페이지 번호와 크기 (정렬은 condition을 따름)
+     * @return 캠페인 목록 프로젝션 페이지
+     */
+    Page<CampaignListProjection> findCampaignPage(CampaignFilterCondition condition, Pageable pageable);
+
+    /**
+     * 조건에 맞는 캠페인을 정렬 순서대로 조회합니다. (COUNT 쿼리 없음)
+     * @param condition 필터/정렬 조건
+     * @param cursor 이전 페이지의 마지막 위치 (null이면 처음부터, offset과 함께 쓰지 않음)
+     * @param offset 건너뛸 행 수 (커서 조회 시 0)
+     * @param limit 최대 조회 건수
+     * @return 캠페인 목록 프로젝션
+     */
+    List<CampaignListProjection> findCampaignSlice(CampaignFilterCondition condition, CampaignCursor cursor, int offset, int limit);
+
+    /**
+     * 카테고리명 x 캠페인 타입 조합별 캠페인 수를 한 번의 그룹 쿼리로 조회합니다. (필터 칩 개수용)
+     * 카테고리명과 캠페인 타입 조건은 적용하지 않고, 나머지 조건(카테고리 타입, 키워드 등)만 적용합니다.
+     * @param condition 필터 조건
+     * @return [categoryName, campaignType, count] 목록
+     */
+    List<Object[]> countByCategoryNameAndCampaignType(CampaignFilterCondition condition);
+}
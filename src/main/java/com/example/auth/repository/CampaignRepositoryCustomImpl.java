@@ -0,0 +1,218 @@
+package com.example.auth.repository;
+
+import com.example.auth.domain.Campaign;
+import com.example.auth.domain.CampaignCategory;
+import com.example.auth.dto.campaign.CampaignCursor;
+import com.example.auth.dto.campaign.CampaignFilterCondition;
+import com.example.auth.dto.campaign.CampaignListProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동적 조건 캠페인 조회 구현
+ * 정렬 키 목록 하나로 ORDER BY 절과 키셋 seek 조건을 함께 만들어 두 조건이 어긋나지 않도록 합니다.
+ */
+public class CampaignRepositoryCustomImpl implements CampaignRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<CampaignListProjection> findCampaignPage(CampaignFilterCondition condition, Pageable pageable) {
+        List<CampaignListProjection> content = findCampaignSlice(
+                condition, null, (int) pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> countCampaigns(condition));
+    }
+
+    @Override
+    public List<CampaignListProjection> findCampaignSlice(CampaignFilterCondition condition, CampaignCursor cursor, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CampaignListProjection> query = cb.createQuery(CampaignListProjection.class);
+        Root<Campaign> campaign = query.from(Campaign.class);
+        Join<Campaign, CampaignCategory> category = campaign.join("category", JoinType.INNER);
+
+        List<SortKey> sortKeys = buildSortKeys(cb, campaign, condition, cursor);
+
+        List<Predicate> predicates = buildFilterPredicates(cb, campaign, category, condition);
+        if (cursor != null) {
+            predicates.add(buildSeekPredicate(cb, sortKeys));
+        }
+
+        List<Order> orders = new ArrayList<>();
+        for (SortKey key : sortKeys) {
+            orders.add(key.ascending() ? cb.asc(key.expression()) : cb.desc(key.expression()));
+        }
+
+        // 목록 응답에 필요한 컬럼만 조회 (TEXT 컬럼, 미션 키워드 배열 제외)
+        query.select(cb.construct(CampaignListProjection.class,
+                        campaign.get("id"),
+                        campaign.get("campaignType"),
+                        campaign.get("title"),
+                        campaign.get("productShortInfo"),
+                        campaign.get("maxApplicants"),
+                        campaign.get("currentApplicants"),
+                        campaign.get("applicationDeadlineDate"),
+                        campaign.get("thumbnailUrl"),
+                        category.get("categoryType"),
+                        category.get("categoryName"),
+                        campaign.get("createdAt"),
+                        campaign.get("recruitmentStatus")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 조건에 맞는 전체 캠페인 수를 조회합니다. (정렬/fetch join 없음)
+     */
+    private long countCampaigns(CampaignFilterCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Campaign> campaign = query.from(Campaign.class);
+
+        // 카테고리 조건이 있을 때만 조인
+        Join<Campaign, CampaignCategory> category = null;
+        if (condition.getCategoryType() != null || condition.hasCategoryName()) {
+            category = campaign.join("category", JoinType.INNER);
+        }
+
+        List<Predicate> predicates = buildFilterPredicates(cb, campaign, category, condition);
+        query.select(cb.count(campaign))
+                .where(predicates.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public List<Object[]> countByCategoryNameAndCampaignType(CampaignFilterCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Campaign> campaign = query.from(Campaign.class);
+        Join<Campaign, CampaignCategory> category = campaign.join("category", JoinType.INNER);
+
+        // 개수를 셀 필터(카테고리명, 캠페인 타입)는 제외하고 나머지 조건만 적용
+        CampaignFilterCondition baseCondition = CampaignFilterCondition.builder()
+                .categoryType(condition.getCategoryType())
+                .keyword(condition.getKeyword())
+                .campaignIds(condition.getCampaignIds())
+                .build();
+        List<Predicate> predicates = buildFilterPredicates(cb, campaign, category, baseCondition);
+
+        query.multiselect(category.get("categoryName"), campaign.get("campaignType"), cb.count(campaign))
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(category.get("categoryName"), campaign.get("campaignType"));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * 필터 조건을 WHERE 절 조건 목록으로 변환합니다.
+     */
+    private List<Predicate> buildFilterPredicates(CriteriaBuilder cb, Root<Campaign> campaign,
+                                                  Join<Campaign, CampaignCategory> category,
+                                                  CampaignFilterCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (condition.getCategoryType() != null) {
+            predicates.add(cb.equal(category.get("categoryType"), condition.getCategoryType()));
+        }
+        if (condition.hasCategoryName()) {
+            predicates.add(cb.equal(category.get("categoryName"), condition.getCategoryName()));
+        }
+        if (condition.hasCampaignTypes()) {
+            predicates.add(campaign.get("campaignType").in(condition.getCampaignTypes()));
+        }
+        if (condition.hasKeyword()) {
+            predicates.add(cb.like(cb.lower(campaign.get("title")), "%" + condition.getKeyword().toLowerCase() + "%"));
+        }
+        if (condition.hasCampaignIds()) {
+            predicates.add(condition.getCampaignIds().isEmpty()
+                    ? cb.disjunction()
+                    : campaign.get("id").in(condition.getCampaignIds()));
+        }
+
+        return predicates;
+    }
+
+    /**
+     * 정렬 기준에 따른 정렬 키 목록을 만듭니다.
+     * 마지막 키는 항상 ID로, 동일한 정렬 값을 가진 캠페인 사이의 순서를 고정합니다.
+     */
+    private List<SortKey> buildSortKeys(CriteriaBuilder cb, Root<Campaign> campaign,
+                                        CampaignFilterCondition condition, CampaignCursor cursor) {
+        List<SortKey> keys = new ArrayList<>();
+        boolean hasCursor = cursor != null;
+
+        if (condition.isRecruitingFirst()) {
+            // 모집 중(0) → 마감(1) 순서 - 저장된 모집 상태 컬럼이라 (모집 상태, 정렬 키) 복합 인덱스로 정렬됨
+            keys.add(new SortKey(campaign.get("recruitmentStatus"), true,
+                    hasCursor ? Campaign.RecruitmentStatus.fromBucket(cursor.getRecruitmentBucket()) : null));
+        }
+
+        switch (condition.getSortType()) {
+            case POPULAR -> {
+                keys.add(new SortKey(campaign.get("currentApplicants"), false, hasCursor ? cursor.getCurrentApplicants() : null));
+                keys.add(new SortKey(campaign.get("createdAt"), false, hasCursor ? cursor.getCreatedAt() : null));
+                keys.add(new SortKey(campaign.get("id"), false, hasCursor ? cursor.getId() : null));
+            }
+            case DEADLINE -> {
+                keys.add(new SortKey(campaign.get("applicationDeadlineDate"), true, hasCursor ? cursor.getApplicationDeadlineDate() : null));
+                keys.add(new SortKey(campaign.get("id"), true, hasCursor ? cursor.getId() : null));
+            }
+            default -> {
+                keys.add(new SortKey(campaign.get("createdAt"), false, hasCursor ? cursor.getCreatedAt() : null));
+                keys.add(new SortKey(campaign.get("id"), false, hasCursor ? cursor.getId() : null));
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * 정렬 키 (k1, k2, ..., kn) 기준으로 커서 이후 행만 남기는 seek 조건을 만듭니다.
+     * k1 > v1 OR (k1 = v1 AND (k2 > v2 OR (k2 = v2 AND ...))) 형태이며, 내림차순 키는 부등호가 반대가 됩니다.
+     */
+    private Predicate buildSeekPredicate(CriteriaBuilder cb, List<SortKey> sortKeys) {
+        SortKey lastKey = sortKeys.get(sortKeys.size() - 1);
+        Predicate predicate = after(cb, lastKey);
+
+        for (int i = sortKeys.size() - 2; i >= 0; i--) {
+            SortKey key = sortKeys.get(i);
+            predicate = cb.or(
+                    after(cb, key),
+                    cb.and(cb.equal(key.expression(), key.cursorValue()), predicate));
+        }
+        return predicate;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate after(CriteriaBuilder cb, SortKey key) {
+        Expression expression = key.expression();
+        Comparable value = (Comparable) key.cursorValue();
+        return key.ascending() ? cb.greaterThan(expression, value) : cb.lessThan(expression, value);
+    }
+
+    /**
+     * 정렬 키 - 정렬 식, 방향, 커서에 저장된 값
+     */
+    private record SortKey(Expression<?> expression, boolean ascending, Object cursorValue) {
+    }
+}
@@ -2,7 +2,10 @@ package com.example.auth.repository;
 
 import com.example.auth.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -15,4 +18,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     // 닉네임으로 사용자 조회 (닉네임 중복 확인용)
     Optional<User> findByNickname(String nickname);
+
+    // 캠페인 신청 접수용 사용자 정보 [role, nickname]
+    @Query("SELECT u.role, u.nickname FROM User u WHERE u.id = :userId")
+    List<Object[]> findApplicationIntakeRowById(@Param("userId") Long userId);
 }
@@ -6,12 +6,16 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserSnsPlatformRepository extends JpaRepository<UserSnsPlatform, Long> {
     List<UserSnsPlatform> findByUserId(Long userId);
 
+    // 여러 사용자의 플랫폼을 한 번에 조회 (목록 화면의 사용자별 개별 조회 방지)
+    List<UserSnsPlatform> findByUserIdIn(Collection<Long> userIds);
+
     Optional<UserSnsPlatform> findByUserIdAndId(Long userId, Long platformId);
 
     Optional<UserSnsPlatform> findByUserIdAndPlatformTypeAndAccountUrl(Long userId, String platformType, String accountUrl);
@@ -2,6 +2,9 @@ package com.example.auth.repository;
 
 import com.example.auth.domain.VisitLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +12,18 @@ import java.util.List;
 @Repository
 public interface VisitLocationRepository extends JpaRepository<VisitLocation, Long> {
     List<VisitLocation> findByCampaignId(Long campaignId);
+
+    // 위치 색인 구성용 - 좌표가 있는 위치만 [id, campaignId, latitude, longitude, address]
+    @Query("SELECT v.id, v.campaign.id, v.latitude, v.longitude, v.address FROM VisitLocation v " +
+           "WHERE v.latitude IS NOT NULL AND v.longitude IS NOT NULL")
+    List<Object[]> findAllGeoIndexRows();
+
+    @Query("SELECT v.id, v.campaign.id, v.latitude, v.longitude, v.address FROM VisitLocation v " +
+           "WHERE v.campaign.id = :campaignId AND v.latitude IS NOT NULL AND v.longitude IS NOT NULL")
+    List<Object[]> findGeoIndexRowsByCampaignId(@Param("campaignId") Long campaignId);
+
+    // 캠페인 수정 시 기존 방문 위치 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM VisitLocation v WHERE v.campaign.id = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") Long campaignId);
 }
@@ -0,0 +1,55 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.CampaignApplicantCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캠페인 신청자 수 카운터 보정 스케줄러
+ * 트랜잭션 외부의 직접 수정 등으로 어긋난 카운터를 주기적으로 실제 신청 데이터와 맞춥니다.
+ * 카운터 컬럼이 처음 추가된 배포 직후 등을 대비해 시작 시에도 한 번 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignApplicantCountScheduler {
+
+    private final CampaignApplicantCountService applicantCountService;
+
+    @Value("${campaign.applicant-count.reconcile.enabled:true}")
+    private boolean reconcileEnabled;
+
+    /**
+     * 시작 시 비동기로 신청자 수 카운터 보정
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcileApplicantCounts();
+    }
+
+    /**
+     * 매일 새벽 4시에 신청자 수 카운터 보정 작업 실행
+     */
+    @Scheduled(cron = "${campaign.applicant-count.reconcile.cron:0 0 4 * * *}")
+    public void reconcileApplicantCounts() {
+        if (!reconcileEnabled) {
+            log.debug("신청자 수 카운터 보정 기능이 비활성화되어 있습니다.");
+            return;
+        }
+
+        try {
+            log.info("신청자 수 카운터 보정 시작");
+            int repaired = applicantCountService.reconcile();
+            log.info("신청자 수 카운터 보정 완료 - 보정된 캠페인: {}개", repaired);
+        } catch (Exception e) {
+            log.error("신청자 수 카운터 보정 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.CampaignApplicationQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캠페인 신청 대기열 스케줄러
+ * 대기열 모드가 켜져 있으면 주기적으로 Redis Stream의 신청을 읽어 DB에 묶음 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignApplicationQueueScheduler {
+
+    // 한 번 실행에서 처리할 최대 묶음 수 (적체 시에도 다음 실행이 밀리지 않도록 제한)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final CampaignApplicationQueueService queueService;
+
+    /**
+     * 시작 시 소비자 그룹 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        if (!queueService.isEnabled()) {
+            return;
+        }
+        queueService.initialize();
+    }
+
+    /**
+     * 대기열 반영 (읽은 묶음이 가득 차 있으면 이어서 처리)
+     */
+    @Scheduled(fixedDelayString = "${campaign.application-queue.flush-interval-ms:500}")
+    public void flush() {
+        if (!queueService.isEnabled()) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (queueService.flush() < queueService.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("캠페인 신청 대기열 반영 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
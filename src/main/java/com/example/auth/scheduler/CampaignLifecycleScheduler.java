@@ -0,0 +1,47 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.CampaignLifecycleTimerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캠페인 진행 단계 스케줄러
+ * 시작 시 진행 단계 예약을 적재하고, 매초 타이밍 휠을 진행하여 경계가 지난 캠페인의 단계를 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignLifecycleScheduler {
+
+    private final CampaignLifecycleTimerService lifecycleTimerService;
+
+    /**
+     * 시작 시 비동기로 진행 단계 예약 적재
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            lifecycleTimerService.load();
+        } catch (Exception e) {
+            log.error("캠페인 진행 단계 예약 적재 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 매초 타이밍 휠 진행
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void advance() {
+        try {
+            lifecycleTimerService.tick();
+        } catch (Exception e) {
+            log.error("캠페인 진행 단계 갱신 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
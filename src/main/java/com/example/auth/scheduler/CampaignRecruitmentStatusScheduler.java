@@ -0,0 +1,50 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.CampaignRecruitmentStatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 캠페인 모집 상태 갱신 스케줄러
+ * 매일 자정 신청 마감일이 지난 캠페인을 마감 상태로 변경합니다.
+ * 캠페인별 갱신은 진행 단계 변경 이벤트로 먼저 이루어지며, 이 일괄 갱신은 누락분을 보정합니다.
+ * 서버가 자정에 내려가 있던 경우를 대비해 시작 시에도 한 번 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignRecruitmentStatusScheduler {
+
+    private final CampaignRecruitmentStatusService recruitmentStatusService;
+
+    /**
+     * 시작 시 비동기로 모집 상태 갱신
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        refreshRecruitmentStatus();
+    }
+
+    /**
+     * 매일 자정 모집 상태 갱신
+     */
+    @Scheduled(cron = "${campaign.recruitment-status.cron:0 0 0 * * *}")
+    public void refreshRecruitmentStatus() {
+        try {
+            long startTime = System.currentTimeMillis();
+            int changed = recruitmentStatusService.refresh(LocalDate.now());
+            log.info("캠페인 모집 상태 갱신 완료 - 변경: {}개, 소요 시간: {}ms",
+                    changed, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("캠페인 모집 상태 갱신 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
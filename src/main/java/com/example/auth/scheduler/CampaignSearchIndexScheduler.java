@@ -0,0 +1,44 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.CampaignSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캠페인 검색 색인 스케줄러
+ * 애플리케이션 시작 시 색인을 구성하고, 이벤트로 반영되지 않는 변경(회원 탈퇴에 따른 삭제 등)을
+ * 정리하기 위해 매일 새벽 전체 색인을 다시 구성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignSearchIndexScheduler {
+
+    private final CampaignSearchIndexService searchIndexService;
+
+    /**
+     * 시작 시 비동기로 색인 구성 (구성 전까지는 DB 검색으로 처리)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildIndex();
+    }
+
+    /**
+     * 매일 새벽 4시 30분에 전체 색인 재구성
+     */
+    @Scheduled(cron = "${campaign.search-index.rebuild-cron:0 30 4 * * *}")
+    public void rebuildIndex() {
+        try {
+            searchIndexService.rebuild();
+        } catch (Exception e) {
+            log.error("캠페인 검색 색인 구성 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.constant.CampaignSortType;
+import com.example.auth.domain.CampaignCategory;
+import com.example.auth.dto.campaign.CampaignFilterCondition;
+import com.example.auth.dto.campaign.HomeFeedSnapshot;
+import com.example.auth.service.CampaignViewService;
+import com.example.auth.service.HomeFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 피드 스냅샷 스케줄러
+ * 매분 정렬 기준(인기순/마감 임박순/최신순) x 카테고리 타입(전체/방문/배송) 조합별 상위 캠페인 목록을 생성합니다.
+ * 여러 서버 중 락을 획득한 한 곳만 DB를 조회하고, 나머지 서버는 Redis에 저장된 스냅샷을 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeFeedScheduler {
+
+    // 다음 실행(1분 후) 전에 만료되도록 설정
+    private static final Duration BUILD_LOCK_TTL = Duration.ofSeconds(50);
+
+    private final HomeFeedService homeFeedService;
+    private final CampaignViewService campaignViewService;
+
+    /**
+     * 매분 홈 피드 스냅샷 갱신 (락을 획득한 서버만 생성)
+     */
+    @Scheduled(cron = "${campaign.home-feed.cron:0 * * * * *}")
+    public void refreshHomeFeed() {
+        if (!homeFeedService.isEnabled() || !homeFeedService.tryAcquireBuildLock(BUILD_LOCK_TTL)) {
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            LocalDate today = LocalDate.now();
+
+            // 카테고리 타입 전체(null) + 타입별
+            List<CampaignCategory.CategoryType> categoryTypes = new ArrayList<>();
+            categoryTypes.add(null);
+            categoryTypes.addAll(Arrays.asList(CampaignCategory.CategoryType.values()));
+
+            Map<String, HomeFeedSnapshot> snapshots = new HashMap<>();
+            for (CampaignSortType sortType : CampaignSortType.values()) {
+                for (CampaignCategory.CategoryType categoryType : categoryTypes) {
+                    CampaignFilterCondition condition = CampaignFilterCondition.builder()
+                            .categoryType(categoryType)
+                            .sortType(sortType)
+                            .currentDate(today)
+                            .build();
+                    snapshots.put(HomeFeedService.feedKey(sortType, categoryType),
+                            campaignViewService.buildHomeFeedSnapshot(condition, homeFeedService.getFeedSize()));
+                }
+            }
+
+            homeFeedService.publish(snapshots);
+            log.info("홈 피드 스냅샷 생성 완료 - 조합: {}개, 소요 시간: {}ms",
+                    snapshots.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("홈 피드 스냅샷 생성 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 매분 30초에 다른 서버가 생성한 스냅샷을 Redis에서 적재
+     */
+    @Scheduled(cron = "${campaign.home-feed.reload-cron:30 * * * * *}")
+    public void reloadHomeFeed() {
+        if (!homeFeedService.isEnabled()) {
+            return;
+        }
+
+        boolean reloaded = homeFeedService.reloadFromRedis();
+        log.debug("홈 피드 스냅샷 Redis 적재 - reloaded: {}", reloaded);
+    }
+}
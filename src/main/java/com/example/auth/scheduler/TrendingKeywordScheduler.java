@@ -1,5 +1,6 @@
 package com.example.auth.scheduler;
 
+import com.example.auth.constant.CampaignSortType;
 import com.example.auth.dto.campaign.CampaignListSimpleResponse;
 import com.example.auth.service.CampaignViewService;
 import com.example.auth.service.SearchAnalyticsService;
@@ -35,11 +36,12 @@ public class TrendingKeywordScheduler {
             log.info("인기 캠페인 기반 검색어 업데이트 시작");
             
             // 인기 캠페인 30개 조회
-            var popularCampaigns = campaignViewService.getCampaignListWithFilters(
-                0, 30, "currentApplicants", true, null, null, null);
+            // 페이징 정보가 필요 없으므로 COUNT 쿼리 없이 조회
+            var condition = campaignViewService.buildFilterCondition(null, null, null, CampaignSortType.POPULAR);
+            List<CampaignListSimpleResponse> popularCampaigns = campaignViewService.getCampaignListWithoutCount(condition, 0, 30);
             
-            if (popularCampaigns != null && !popularCampaigns.getContent().isEmpty()) {
-                List<String> campaignTitles = popularCampaigns.getContent().stream()
+            if (!popularCampaigns.isEmpty()) {
+                List<String> campaignTitles = popularCampaigns.stream()
                         .map(CampaignListSimpleResponse::getTitle)
                         .filter(title -> title != null && !title.trim().isEmpty())
                         .collect(Collectors.toList());
@@ -0,0 +1,44 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.VisitLocationGeoIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방문 위치 공간 색인 스케줄러
+ * 애플리케이션 시작 시 색인을 구성하고, 이벤트로 반영되지 않는 변경(캠페인 삭제 등)을
+ * 정리하기 위해 매일 새벽 전체 색인을 다시 구성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisitLocationGeoIndexScheduler {
+
+    private final VisitLocationGeoIndexService geoIndexService;
+
+    /**
+     * 시작 시 비동기로 색인 구성 (구성 전까지 주변 검색은 사용할 수 없음)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildIndex();
+    }
+
+    /**
+     * 매일 새벽 4시 40분에 전체 색인 재구성
+     */
+    @Scheduled(cron = "${campaign.geo-index.rebuild-cron:0 40 4 * * *}")
+    public void rebuildIndex() {
+        try {
+            geoIndexService.rebuild();
+        } catch (Exception e) {
+            log.error("방문 위치 공간 색인 구성 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
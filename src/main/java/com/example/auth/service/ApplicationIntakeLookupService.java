@@ -0,0 +1,123 @@
+package com.example.auth.service;
+
+import com.example.auth.event.CampaignChangedEvent;
+import com.example.auth.event.UserChangedEvent;
+import com.example.auth.exception.ResourceNotFoundException;
+import com.example.auth.repository.CampaignRepository;
+import com.example.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 캠페인 신청 접수용 조회 캐시 서비스
+ *
+ * 인기 캠페인 오픈 직후처럼 신청이 몰릴 때 매 요청마다 캠페인/사용자 엔티티를 조회하지 않도록
+ * 신청 검증과 응답에 필요한 값(마감일, 권한, 닉네임 등)만 메모리에 캐시합니다.
+ * 신청자 수처럼 신청마다 바뀌는 값은 담지 않으므로 신청이 접수되어도 캐시가 무효화되지 않습니다.
+ */
+@Slf4j
+@Service
+public class ApplicationIntakeLookupService {
+
+    private final CampaignRepository campaignRepository;
+    private final UserRepository userRepository;
+    private final Cache<Long, CampaignIntake> campaignCache;
+    private final Cache<Long, ApplicantIntake> applicantCache;
+
+    public ApplicationIntakeLookupService(
+            CampaignRepository campaignRepository,
+            UserRepository userRepository,
+            @Value("${campaign.application-intake-cache.max-size:10000}") long maxSize,
+            @Value("${campaign.application-intake-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.campaignRepository = campaignRepository;
+        this.userRepository = userRepository;
+        this.campaignCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.applicantCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 신청 접수에 필요한 캠페인 정보를 조회합니다.
+     * @throws ResourceNotFoundException 캠페인이 없는 경우
+     */
+    public CampaignIntake getCampaign(Long campaignId) {
+        return campaignCache.get(campaignId, this::loadCampaign);
+    }
+
+    /**
+     * 신청 접수에 필요한 사용자 정보를 조회합니다.
+     * @throws ResourceNotFoundException 사용자가 없는 경우
+     */
+    public ApplicantIntake getApplicant(Long userId) {
+        return applicantCache.get(userId, this::loadApplicant);
+    }
+
+    /**
+     * 사용자 권한 변경이나 탈퇴가 커밋되면 캐시된 사용자 정보를 제거합니다.
+     * 커밋 전에 제거하면 동시 요청이 변경 전 값을 다시 캐시할 수 있으므로 커밋 이후에 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        applicantCache.invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        // 새로 생성된 캠페인은 아직 캐시에 없음
+        if (event.getChangeType() == CampaignChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        campaignCache.invalidate(event.getCampaignId());
+    }
+
+    private CampaignIntake loadCampaign(Long campaignId) {
+        List<Object[]> rows = campaignRepository.findApplicationIntakeRowById(campaignId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("캠페인을 찾을 수 없습니다. ID: " + campaignId);
+        }
+        Object[] row = rows.get(0);
+        return new CampaignIntake(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (LocalDate) row[5]);
+    }
+
+    private ApplicantIntake loadApplicant(Long userId) {
+        List<Object[]> rows = userRepository.findApplicationIntakeRowById(userId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+        Object[] row = rows.get(0);
+        return new ApplicantIntake(userId, (String) row[0], (String) row[1]);
+    }
+
+    /**
+     * 신청 접수용 캠페인 정보
+     */
+    public record CampaignIntake(Long campaignId, String title, String thumbnailUrl, String productShortInfo,
+                                 String campaignType, LocalDate applicationDeadlineDate) {
+    }
+
+    /**
+     * 신청 접수용 사용자 정보
+     */
+    public record ApplicantIntake(Long userId, String role, String nickname) {
+    }
+}
@@ -2,11 +2,13 @@ package com.example.auth.service;
 
 import com.example.auth.dto.banner.BannerImageResponse;
 import com.example.auth.repository.BannerImageRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,18 +20,26 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BannerImageService {
 
+    private static final String CACHE_NAME = "banners";
+    private static final String CACHE_KEY_ALL = "all";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
     private final BannerImageRepository bannerImageRepository;
+    private final TwoTierCacheService twoTierCacheService;
 
     /**
      * 모든 배너 이미지 목록을 조회합니다.
+     * 배너는 별도 관리 도구에서 드물게 변경되므로 2단계 캐시에 보관합니다. (변경은 L2 TTL이 지나면 반영)
      * @return 배너 이미지 목록 (최신순)
      */
     public List<BannerImageResponse> getAllBanners() {
         log.info("모든 배너 이미지 목록 조회");
-        
-        return bannerImageRepository.findAllOrderByCreatedAtDesc()
-                .stream()
-                .map(BannerImageResponse::from)
-                .collect(Collectors.toList());
+
+        return twoTierCacheService.get(CACHE_NAME, CACHE_KEY_ALL, CACHE_TTL,
+                new TypeReference<List<BannerImageResponse>>() {},
+                () -> bannerImageRepository.findAllOrderByCreatedAtDesc()
+                        .stream()
+                        .map(BannerImageResponse::from)
+                        .collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,106 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.ApplicationStatus;
+import com.example.auth.event.CampaignApplicantCountChangedEvent;
+import com.example.auth.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 캠페인 신청자 수(PENDING) 비정규화 카운터 관리 서비스
+ *
+ * 인기순 정렬은 campaigns.current_applicants 컬럼을 인덱스로 바로 사용하므로,
+ * 신청 생성/취소/상태 변경 시 같은 트랜잭션 안에서 카운터를 함께 갱신합니다.
+ * 카운터가 바뀌면 CampaignApplicantCountChangedEvent를 발행하여 캐시가 커밋 이후 무효화되도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignApplicantCountService {
+
+    private final CampaignRepository campaignRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 신청이 새로 접수(PENDING)되었을 때 카운터를 1 증가시킵니다.
+     * @param campaignId 캠페인 ID
+     */
+    @Transactional
+    public void increase(Long campaignId) {
+        adjust(campaignId, 1);
+    }
+
+    /**
+     * 여러 신청이 한 번에 접수(PENDING)되었을 때 카운터를 접수된 수만큼 증가시킵니다.
+     * @param campaignId 캠페인 ID
+     * @param count 접수된 신청 수
+     */
+    @Transactional
+    public void increase(Long campaignId, int count) {
+        if (count > 0) {
+            adjust(campaignId, count);
+        }
+    }
+
+    /**
+     * 대기 중이던 신청이 취소되었을 때 카운터를 1 감소시킵니다.
+     * @param campaignId 캠페인 ID
+     */
+    @Transactional
+    public void decrease(Long campaignId) {
+        adjust(campaignId, -1);
+    }
+
+    /**
+     * 대기 중이던 여러 신청이 한 번에 삭제되었을 때 카운터를 삭제된 수만큼 감소시킵니다.
+     * @param campaignId 캠페인 ID
+     * @param count 삭제된 신청 수
+     */
+    @Transactional
+    public void decrease(Long campaignId, int count) {
+        if (count > 0) {
+            adjust(campaignId, -count);
+        }
+    }
+
+    /**
+     * 신청 상태 변경을 카운터에 반영합니다.
+     * PENDING에서 벗어나거나 PENDING으로 돌아오는 경우에만 카운터가 변경됩니다.
+     * @param campaignId 캠페인 ID
+     * @param from 변경 전 상태
+     * @param to 변경 후 상태
+     * @param count 변경된 신청 수
+     */
+    @Transactional
+    public void applyTransition(Long campaignId, ApplicationStatus from, ApplicationStatus to, int count) {
+        if (count <= 0 || from == to) {
+            return;
+        }
+        if (from == ApplicationStatus.PENDING) {
+            adjust(campaignId, -count);
+        } else if (to == ApplicationStatus.PENDING) {
+            adjust(campaignId, count);
+        }
+    }
+
+    private void adjust(Long campaignId, int delta) {
+        campaignRepository.adjustCurrentApplicants(campaignId, delta);
+        eventPublisher.publishEvent(new CampaignApplicantCountChangedEvent(campaignId, delta));
+    }
+
+    /**
+     * 카운터와 실제 신청 데이터 간의 차이를 보정합니다.
+     * @return 보정된 캠페인 수
+     */
+    @Transactional
+    public int reconcile() {
+        int repaired = campaignRepository.reconcileCurrentApplicants();
+        if (repaired > 0) {
+            log.warn("캠페인 신청자 수 카운터 불일치 보정: {}개 캠페인", repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.auth.service;
+
+import com.example.auth.exception.AdmissionRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 캠페인별 신청 유입 제어 서비스
+ *
+ * 인기 캠페인 하나에 신청이 몰려 요청 스레드와 DB 커넥션을 독점하지 않도록 캠페인마다 토큰 버킷을 둡니다.
+ * 버킷은 Redis에 두고 Lua 스크립트로 충전/차감을 한 번에 처리하므로 여러 서버가 같은 한도를 공유합니다.
+ * 한도를 넘은 요청은 서비스 호출 전에 재시도 가능 시간과 함께 거절하고, 캠페인별 일간 거절 수를 기록합니다.
+ * Redis 장애 시에는 신청 자체를 막지 않도록 통과시킵니다.
+ */
+@Slf4j
+@Service
+public class CampaignApplicationAdmissionService {
+
+    private static final String BUCKET_KEY_PREFIX = "campaign-applications:admission:";
+    private static final String REJECTED_KEY_PREFIX = "campaign-applications:admission-rejected:";
+    private static final Duration REJECTED_TTL = Duration.ofDays(7);
+
+    /**
+     * 토큰 버킷 차감 스크립트 - 반환값 {허용 여부(1/0), 재시도까지 남은 시간(ms)}
+     * 서버 간 시계 차이를 피하기 위해 Redis 서버 시각(TIME)으로 충전량을 계산합니다.
+     */
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local allowed = 0
+            local retryAfterMillis = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retryAfterMillis = math.ceil((1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+            return {allowed, retryAfterMillis}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final int capacity;
+    private final double refillPerSecond;
+
+    public CampaignApplicationAdmissionService(
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            @Value("${campaign.application-admission.enabled:true}") boolean enabled,
+            @Value("${campaign.application-admission.capacity:50}") int capacity,
+            @Value("${campaign.application-admission.refill-per-second:20}") double refillPerSecond) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    /**
+     * 캠페인 신청 한 건을 허용할지 확인합니다.
+     * @throws AdmissionRejectedException 캠페인의 신청 한도를 넘은 경우
+     */
+    public void acquire(Long campaignId) {
+        if (!enabled || campaignId == null) {
+            return;
+        }
+
+        List<?> result;
+        try {
+            result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(BUCKET_KEY_PREFIX + campaignId),
+                    String.valueOf(capacity), String.valueOf(refillPerSecond));
+        } catch (Exception e) {
+            log.warn("신청 유입 제어 확인 실패, 통과 처리 - campaignId: {}, error: {}", campaignId, e.getMessage());
+            return;
+        }
+        if (result == null || result.size() < 2 || ((Number) result.get(0)).longValue() == 1) {
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (((Number) result.get(1)).longValue() + 999) / 1000);
+        recordRejection(campaignId);
+        throw new AdmissionRejectedException("신청이 몰리고 있어요. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    /**
+     * 일자별 캠페인 거절 수를 많은 순으로 조회합니다.
+     * @param limit 조회할 캠페인 수
+     */
+    public List<RejectionCount> getRejectionCounts(LocalDate date, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(REJECTED_KEY_PREFIX + date, 0, limit - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+        return tuples.stream()
+                .map(tuple -> new RejectionCount(Long.valueOf(tuple.getValue()),
+                        tuple.getScore() != null ? tuple.getScore().longValue() : 0))
+                .toList();
+    }
+
+    private void recordRejection(Long campaignId) {
+        try {
+            String key = REJECTED_KEY_PREFIX + LocalDate.now();
+            redisTemplate.opsForZSet().incrementScore(key, String.valueOf(campaignId), 1);
+            redisTemplate.expire(key, REJECTED_TTL);
+        } catch (Exception e) {
+            log.debug("신청 거절 수 기록 실패 - campaignId: {}, error: {}", campaignId, e.getMessage());
+        }
+    }
+
+    /**
+     * 캠페인별 신청 거절 수
+     */
+    public record RejectionCount(Long campaignId, long rejectedCount) {
+    }
+}
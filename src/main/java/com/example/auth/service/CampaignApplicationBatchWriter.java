@@ -0,0 +1,69 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열에 쌓인 캠페인 신청을 여러 행 INSERT 한 번으로 반영하는 서비스
+ *
+ * 이미 신청된 (campaign_id, user_id)는 ON CONFLICT로 건너뛰고, 실제로 추가된 행만 신청자 수 카운터에 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignApplicationBatchWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO campaign_applications (campaign_id, user_id, application_status, created_at, updated_at) VALUES ";
+    private static final String INSERT_SUFFIX =
+            " ON CONFLICT (campaign_id, user_id) DO NOTHING RETURNING campaign_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CampaignApplicantCountService applicantCountService;
+
+    /**
+     * 신청을 반영합니다.
+     * @return 새로 추가된 신청 수
+     */
+    @Transactional
+    public int insert(List<QueuedApplicationRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> args = new ArrayList<>(rows.size() * 5);
+        for (QueuedApplicationRow row : rows) {
+            Timestamp requestedAt = new Timestamp(row.requestedAtMillis());
+            args.add(row.campaignId());
+            args.add(row.userId());
+            args.add(ApplicationStatus.PENDING.name());
+            args.add(requestedAt);
+            args.add(requestedAt);
+        }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), "(?, ?, ?, ?, ?)")) + INSERT_SUFFIX;
+        List<Long> insertedCampaignIds = jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+
+        Map<Long, Long> insertedByCampaign = insertedCampaignIds.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        insertedByCampaign.forEach((campaignId, count) -> applicantCountService.increase(campaignId, count.intValue()));
+        return insertedCampaignIds.size();
+    }
+
+    /**
+     * 대기열에서 읽은 신청 한 건
+     */
+    public record QueuedApplicationRow(Long campaignId, Long userId, long requestedAtMillis) {
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 캠페인 신청 접수 대기열 서비스 (write-behind)
+ *
+ * 신청이 몰리는 시간대에 요청마다 DB 커넥션을 점유하지 않도록, 신청을 Redis Stream에 기록하고 즉시 멱등 키로 응답합니다.
+ * 기록된 신청은 {@link com.example.auth.scheduler.CampaignApplicationQueueScheduler}가 소비자 그룹으로 읽어
+ * 여러 건을 한 번의 INSERT로 campaign_applications에 반영한 뒤 ACK 합니다.
+ * DB 반영 후 ACK 전에 서버가 중단되면 미확인 항목은 일정 시간(claim-idle-ms)이 지난 뒤 살아 있는 소비자가 가져가 다시 반영하며,
+ * INSERT가 (campaign_id, user_id) 충돌을 무시하므로 중복 반영되지 않습니다.
+ * 반영에 계속 실패하는 항목은 max-deliveries회 전달 후 사후 처리용 스트림으로 옮기고 대기 표시를 지웁니다.
+ */
+@Slf4j
+@Service
+public class CampaignApplicationQueueService {
+
+    private static final String STREAM_KEY = "campaign-applications:stream";
+    private static final String PENDING_KEY = "campaign-applications:pending";  // campaignId:userId -> 멱등 키
+    private static final String CONSUMER_GROUP = "application-writers";
+    private static final String DEAD_LETTER_KEY = "campaign-applications:dead-letter";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CampaignApplicationBatchWriter batchWriter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final String consumerName;
+    private final Duration claimIdle;
+    private final long maxDeliveries;
+
+    public CampaignApplicationQueueService(
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            CampaignApplicationBatchWriter batchWriter,
+            @Value("${campaign.application-queue.enabled:false}") boolean enabled,
+            @Value("${campaign.application-queue.batch-size:500}") int batchSize,
+            @Value("${campaign.application-queue.consumer-name:${HOSTNAME:application-writer}}") String consumerName,
+            @Value("${campaign.application-queue.claim-idle-ms:60000}") long claimIdleMs,
+            @Value("${campaign.application-queue.max-deliveries:20}") long maxDeliveries) {
+        this.redisTemplate = redisTemplate;
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.consumerName = consumerName;
+        this.claimIdle = Duration.ofMillis(claimIdleMs);
+        this.maxDeliveries = maxDeliveries;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 소비자 그룹을 생성합니다. (스트림이 없으면 함께 생성, 이미 있으면 무시)
+     */
+    public void initialize() {
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+            log.info("캠페인 신청 대기열 소비자 그룹 생성 - stream: {}, group: {}", STREAM_KEY, CONSUMER_GROUP);
+        } catch (Exception e) {
+            // BUSYGROUP: 이미 생성된 그룹
+            log.debug("캠페인 신청 대기열 소비자 그룹 생성 생략: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 신청을 대기열에 기록하고 멱등 키를 반환합니다.
+     * 같은 사용자가 같은 캠페인에 반영 전 다시 신청하면 새로 기록하지 않고 처음 발급한 멱등 키를 반환합니다.
+     */
+    public String enqueue(Long campaignId, Long userId) {
+        String field = pendingField(campaignId, userId);
+        String idempotencyKey = UUID.randomUUID().toString();
+        Boolean added = redisTemplate.opsForHash().putIfAbsent(PENDING_KEY, field, idempotencyKey);
+        if (!Boolean.TRUE.equals(added)) {
+            return findIdempotencyKey(campaignId, userId).orElse(idempotencyKey);
+        }
+
+        try {
+            redisTemplate.opsForStream().add(STREAM_KEY, Map.of(
+                    "idempotencyKey", idempotencyKey,
+                    "campaignId", String.valueOf(campaignId),
+                    "userId", String.valueOf(userId),
+                    "requestedAt", String.valueOf(System.currentTimeMillis())));
+        } catch (RuntimeException e) {
+            redisTemplate.opsForHash().delete(PENDING_KEY, field);
+            throw e;
+        }
+        return idempotencyKey;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 신청의 멱등 키를 조회합니다.
+     */
+    public Optional<String> findIdempotencyKey(Long campaignId, Long userId) {
+        Object idempotencyKey = redisTemplate.opsForHash().get(PENDING_KEY, pendingField(campaignId, userId));
+        return Optional.ofNullable(idempotencyKey).map(String::valueOf);
+    }
+
+    /**
+     * 대기열에서 한 묶음을 읽어 DB에 반영하고 ACK 합니다.
+     * 이전에 읽고 ACK 하지 못한 항목이 있으면 그 항목부터 처리합니다.
+     * @return ACK 한 항목 수
+     */
+    public int flush() {
+        recoverStalled();
+
+        List<MapRecord<String, Object, Object>> records = read(ReadOffset.from("0"));
+        if (records.isEmpty()) {
+            records = read(ReadOffset.lastConsumed());
+        }
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        List<QueuedEntry> entries = new ArrayList<>();
+        List<QueuedEntry> malformed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            QueuedEntry entry = QueuedEntry.from(record);
+            if (entry.row() == null) {
+                // 잘못된 항목이 대기열을 막지 않도록 ACK 대상에만 포함
+                log.warn("캠페인 신청 대기열 항목 형식 오류, 건너뜀 - id: {}, value: {}", record.getId(), record.getValue());
+                malformed.add(entry);
+            } else {
+                entries.add(entry);
+            }
+        }
+
+        List<QueuedEntry> written = new ArrayList<>(write(entries));
+        written.addAll(malformed);
+        acknowledge(written);
+        log.info("캠페인 신청 대기열 반영 - 읽음: {}건, ACK: {}건", records.size(), written.size());
+        return written.size();
+    }
+
+    /**
+     * 그룹 전체의 미확인 항목을 점검합니다.
+     * - 전달 횟수가 한도에 이른 항목은 사후 처리용 스트림으로 옮기고 대기 표시를 지워 다시 신청할 수 있게 합니다.
+     * - 다른 소비자가 가져간 뒤 오래 처리되지 않은 항목(재시작으로 이름이 바뀐 소비자 등)은 이 소비자로 가져옵니다.
+     */
+    private void recoverStalled() {
+        PendingMessages pendingMessages = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), batchSize);
+        if (pendingMessages == null || pendingMessages.isEmpty()) {
+            return;
+        }
+
+        List<RecordId> exhausted = new ArrayList<>();
+        List<RecordId> orphaned = new ArrayList<>();
+        for (PendingMessage pendingMessage : pendingMessages) {
+            if (pendingMessage.getTotalDeliveryCount() >= maxDeliveries) {
+                exhausted.add(pendingMessage.getId());
+            } else if (!consumerName.equals(pendingMessage.getConsumerName())
+                    && pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0) {
+                orphaned.add(pendingMessage.getId());
+            }
+        }
+
+        exhausted.forEach(this::deadLetter);
+        if (!orphaned.isEmpty()) {
+            List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                    STREAM_KEY, CONSUMER_GROUP, consumerName,
+                    XClaimOptions.minIdle(claimIdle).ids(orphaned.toArray(RecordId[]::new)));
+            log.info("캠페인 신청 대기열 미처리 항목 인수 - consumer: {}, 대상: {}건, 인수: {}건",
+                    consumerName, orphaned.size(), claimed != null ? claimed.size() : 0);
+        }
+    }
+
+    private void deadLetter(RecordId recordId) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.closed(recordId.getValue(), recordId.getValue()));
+        if (records != null && !records.isEmpty()) {
+            redisTemplate.opsForStream().add(DEAD_LETTER_KEY, records.get(0).getValue());
+            log.error("캠페인 신청 대기열 반영 재시도 한도 초과, 사후 처리 스트림으로 이동 - id: {}, value: {}",
+                    recordId, records.get(0).getValue());
+            acknowledge(List.of(QueuedEntry.from(records.get(0))));
+        } else {
+            // 이미 삭제된 항목은 미확인 목록에서만 정리
+            redisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordId);
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset readOffset) {
+        // 제네릭 가변 인자 배열 생성 경고를 피하기 위해 배열을 직접 구성
+        @SuppressWarnings("unchecked")
+        StreamOffset<String>[] offsets = new StreamOffset[]{StreamOffset.create(STREAM_KEY, readOffset)};
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                offsets);
+        return records != null ? records : List.of();
+    }
+
+    /**
+     * 묶음 INSERT가 실패하면 건별로 다시 반영합니다.
+     * 제약 위반(삭제된 캠페인/사용자 등)으로 반영할 수 없는 항목은 기록만 남기고 건너뛰고,
+     * 그 밖의 오류(DB 장애 등)가 나면 남은 항목은 ACK 하지 않고 다음 실행에서 다시 시도합니다.
+     * @return ACK 해도 되는 항목
+     */
+    private List<QueuedEntry> write(List<QueuedEntry> entries) {
+        if (entries.isEmpty()) {
+            return entries;
+        }
+
+        try {
+            int inserted = batchWriter.insert(entries.stream().map(QueuedEntry::row).toList());
+            log.debug("캠페인 신청 묶음 반영 - 대상: {}건, 신규: {}건", entries.size(), inserted);
+            return entries;
+        } catch (DataAccessException e) {
+            log.warn("캠페인 신청 묶음 반영 실패, 건별 반영으로 전환 - {}건, error: {}", entries.size(), e.getMessage());
+        }
+
+        List<QueuedEntry> written = new ArrayList<>();
+        for (QueuedEntry entry : entries) {
+            try {
+                batchWriter.insert(List.of(entry.row()));
+            } catch (DataIntegrityViolationException e) {
+                log.warn("캠페인 신청 반영 불가, 건너뜀 - campaignId: {}, userId: {}, error: {}",
+                        entry.row().campaignId(), entry.row().userId(), e.getMessage());
+            } catch (DataAccessException e) {
+                log.warn("캠페인 신청 반영 실패, 다음 실행에서 재시도 - campaignId: {}, userId: {}, error: {}",
+                        entry.row().campaignId(), entry.row().userId(), e.getMessage());
+                break;
+            }
+            written.add(entry);
+        }
+        return written;
+    }
+
+    private void acknowledge(List<QueuedEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        RecordId[] recordIds = entries.stream().map(QueuedEntry::id).toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordIds);
+        redisTemplate.opsForStream().delete(STREAM_KEY, recordIds);
+        Object[] fields = entries.stream()
+                .filter(entry -> entry.row() != null)
+                .map(entry -> pendingField(entry.row().campaignId(), entry.row().userId()))
+                .toArray();
+        if (fields.length > 0) {
+            redisTemplate.opsForHash().delete(PENDING_KEY, fields);
+        }
+    }
+
+    private static String pendingField(Long campaignId, Long userId) {
+        return campaignId + ":" + userId;
+    }
+
+    /**
+     * 대기열에 접수된 신청
+     * @param idempotencyKey 접수 시 발급한 멱등 키
+     */
+    public record QueuedApplication(String idempotencyKey, Long campaignId, String campaignTitle,
+                                    Long userId, String userNickname) {
+    }
+
+    /**
+     * 스트림 항목과 파싱한 신청 (형식이 잘못된 항목은 row가 null)
+     */
+    private record QueuedEntry(RecordId id, CampaignApplicationBatchWriter.QueuedApplicationRow row) {
+
+        static QueuedEntry from(MapRecord<String, Object, Object> record) {
+            Map<Object, Object> value = record.getValue();
+            try {
+                return new QueuedEntry(record.getId(), new CampaignApplicationBatchWriter.QueuedApplicationRow(
+                        Long.valueOf(String.valueOf(value.get("campaignId"))),
+                        Long.valueOf(String.valueOf(value.get("userId"))),
+                        Long.parseLong(String.valueOf(value.get("requestedAt")))));
+            } catch (NumberFormatException e) {
+                return new QueuedEntry(record.getId(), null);
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.example.auth.domain.Campaign;
 import com.example.auth.domain.CampaignApplication;
 import com.example.auth.domain.User;
 import com.example.auth.domain.UserSnsPlatform;
+import com.example.auth.dto.application.ApplicationBulkStatusResponse;
 import com.example.auth.dto.application.ApplicationResponse;
 import com.example.auth.dto.application.CampaignApplicantResponse;
 import com.example.auth.dto.common.PageResponse;
@@ -17,6 +18,9 @@ import com.example.auth.repository.UserRepository;
 import com.example.auth.repository.UserSnsPlatformRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,9 +28,17 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -37,13 +49,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CampaignApplicationService {
 
+    // PostgreSQL SQLSTATE
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
     private final CampaignApplicationRepository applicationRepository;
     private final CampaignRepository campaignRepository;
     private final UserRepository userRepository;
     private final UserSnsPlatformRepository userSnsPlatformRepository;
+    private final CampaignApplicantCountService applicantCountService;
+    private final ApplicationIntakeLookupService intakeLookupService;
+    private final CampaignApplicationQueueService applicationQueueService;
 
     /**
      * 캠페인 신청을 생성합니다.
+     * 캠페인 마감일과 사용자 권한은 캐시에서 확인하고, 중복 신청은 사전 조회 없이
+     * (campaign_id, user_id) 유니크 제약 위반으로 판별하여 INSERT 한 번으로 접수합니다.
      * @param campaignId 신청할 캠페인 ID
      * @param userId 신청하는 사용자 ID
      * @return 생성된 신청 정보
@@ -53,41 +74,110 @@ public class CampaignApplicationService {
      */
     @Transactional
     public ApplicationResponse createApplication(Long campaignId, Long userId) {
-        // 캠페인과 사용자 조회
-        Campaign campaign = campaignRepository.findById(campaignId)
-                .orElseThrow(() -> new ResourceNotFoundException("캠페인을 찾을 수 없습니다. ID: " + campaignId));
+        ApplicationIntakeLookupService.CampaignIntake campaign = intakeLookupService.getCampaign(campaignId);
+        ApplicationIntakeLookupService.ApplicantIntake applicant = intakeLookupService.getApplicant(userId);
+        validateIntake(campaign, applicant);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
+        // 신청 생성 - 연관 엔티티는 조회 없이 참조(프록시)만 설정
+        CampaignApplication application = CampaignApplication.builder()
+                .campaign(campaignRepository.getReferenceById(campaignId))
+                .user(userRepository.getReferenceById(userId))
+                .applicationStatus(ApplicationStatus.PENDING)
+                .build();
         
-        // 사용자 권한 검증: USER(인플루언서)만 캠페인 신청 가능
-        if (!UserRole.USER.getValue().equals(user.getRole())) {
-            throw new AccessDeniedException("인플루언서만 캠페인에 신청할 수 있습니다.");
+        CampaignApplication savedApplication;
+        try {
+            // 제약 위반을 이 자리에서 감지하도록 즉시 INSERT
+            savedApplication = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntakeViolation(e, campaignId, userId);
         }
+        applicantCountService.increase(campaignId);
+        log.info("캠페인 신청 생성 완료: userId={}, campaignId={}, applicationId={}", userId, campaignId, savedApplication.getId());
         
-        // 이미 신청한 경우 체크
-        if (applicationRepository.existsByUserAndCampaign(user, campaign)) {
-            throw new IllegalStateException("이미 해당 캠페인에 신청하셨습니다.");
+        // 응답은 캐시된 정보로 구성 (프록시 초기화로 인한 추가 조회 방지)
+        return ApplicationResponse.builder()
+                .id(savedApplication.getId())
+                .campaignId(campaignId)
+                .campaignTitle(campaign.title())
+                .campaignThumbnailUrl(campaign.thumbnailUrl())
+                .productShortInfo(campaign.productShortInfo())
+                .campaignType(campaign.campaignType())
+                .userId(userId)
+                .userNickname(applicant.nickname())
+                .applicationStatus(savedApplication.getApplicationStatus().name().toLowerCase())
+                .createdAt(savedApplication.getCreatedAt())
+                .updatedAt(savedApplication.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 캠페인 신청을 대기열에 접수합니다. (대기열 모드 전용)
+     * 검증은 {@link #createApplication}과 같지만 DB에는 쓰지 않고 Redis Stream에 기록한 뒤 멱등 키로 바로 응답합니다.
+     * 이미 DB에 반영된 중복 신청은 반영 시 무시되며, 반영 여부는 신청 상태 확인으로 조회할 수 있습니다.
+     * @throws ResourceNotFoundException 캠페인이나 사용자를 찾을 수 없는 경우
+     * @throws IllegalStateException 모집 마감된 경우
+     * @throws AccessDeniedException 권한이 없는 경우 (USER 역할이 아닌 경우)
+     */
+    public CampaignApplicationQueueService.QueuedApplication enqueueApplication(Long campaignId, Long userId) {
+        ApplicationIntakeLookupService.CampaignIntake campaign = intakeLookupService.getCampaign(campaignId);
+        ApplicationIntakeLookupService.ApplicantIntake applicant = intakeLookupService.getApplicant(userId);
+        validateIntake(campaign, applicant);
+
+        String idempotencyKey = applicationQueueService.enqueue(campaignId, userId);
+        log.info("캠페인 신청 대기열 접수: userId={}, campaignId={}, idempotencyKey={}", userId, campaignId, idempotencyKey);
+        return new CampaignApplicationQueueService.QueuedApplication(
+                idempotencyKey, campaignId, campaign.title(), userId, applicant.nickname());
+    }
+
+    /**
+     * 대기열에 접수되어 아직 DB에 반영되지 않은 신청을 조회합니다.
+     * @return 대기열 모드가 아니거나 대기 중인 신청이 없으면 empty
+     */
+    public Optional<CampaignApplicationQueueService.QueuedApplication> findQueuedApplication(Long campaignId, Long userId) {
+        if (!applicationQueueService.isEnabled()) {
+            return Optional.empty();
+        }
+        return applicationQueueService.findIdempotencyKey(campaignId, userId)
+                .map(idempotencyKey -> {
+                    ApplicationIntakeLookupService.CampaignIntake campaign = intakeLookupService.getCampaign(campaignId);
+                    ApplicationIntakeLookupService.ApplicantIntake applicant = intakeLookupService.getApplicant(userId);
+                    return new CampaignApplicationQueueService.QueuedApplication(
+                            idempotencyKey, campaignId, campaign.title(), userId, applicant.nickname());
+                });
+    }
+
+    private void validateIntake(ApplicationIntakeLookupService.CampaignIntake campaign,
+                                ApplicationIntakeLookupService.ApplicantIntake applicant) {
+        // 사용자 권한 검증: USER(인플루언서)만 캠페인 신청 가능
+        if (!UserRole.USER.getValue().equals(applicant.role())) {
+            throw new AccessDeniedException("인플루언서만 캠페인에 신청할 수 있습니다.");
         }
         
         // 신청 마감 체크 - applicationDeadlineDate 기준으로 수정
-        if (LocalDate.now().isAfter(campaign.getApplicationDeadlineDate())) {
+        if (LocalDate.now().isAfter(campaign.applicationDeadlineDate())) {
             throw new IllegalStateException("신청이 마감된 캠페인입니다.");
         }
         
         // 최대 인원 체크는 제거 - 최대 인원에 상관없이 신청 가능
-        
-        // 신청 생성
-        CampaignApplication application = CampaignApplication.builder()
-                .campaign(campaign)
-                .user(user)
-                .applicationStatus(ApplicationStatus.PENDING)
-                .build();
-        
-        CampaignApplication savedApplication = applicationRepository.save(application);
-        log.info("캠페인 신청 생성 완료: userId={}, campaignId={}, applicationId={}", userId, campaignId, savedApplication.getId());
-        
-        return ApplicationResponse.fromEntity(savedApplication);
+    }
+
+    /**
+     * 신청 INSERT의 제약 위반을 비즈니스 예외로 변환합니다.
+     * - 유니크 제약 위반: 이미 신청한 경우
+     * - 외래 키 위반: 캐시 이후 캠페인이나 사용자가 삭제된 경우
+     */
+    private RuntimeException translateIntakeViolation(DataIntegrityViolationException e, Long campaignId, Long userId) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String sqlState = cause instanceof SQLException sqlException ? sqlException.getSQLState() : null;
+        if (UNIQUE_VIOLATION.equals(sqlState)) {
+            log.info("중복 캠페인 신청 차단: userId={}, campaignId={}", userId, campaignId);
+            return new IllegalStateException("이미 해당 캠페인에 신청하셨습니다.");
+        }
+        if (FOREIGN_KEY_VIOLATION.equals(sqlState)) {
+            return new ResourceNotFoundException("캠페인 또는 사용자를 찾을 수 없습니다.");
+        }
+        return e;
     }
 
     /**
@@ -349,10 +439,81 @@ public class CampaignApplicationService {
             throw new IllegalStateException("이미 처리된 신청은 취소할 수 없습니다.");
         }
         
+        Long campaignId = application.getCampaign().getId();
         applicationRepository.delete(application);
+        applicantCountService.decrease(campaignId);
         log.info("캠페인 신청 취소 완료: applicationId={}, userId={}", applicationId, currentUserId);
     }
 
+    /**
+     * 캠페인 신청 상태를 일괄 변경합니다. (CLIENT 전용)
+     * 소유자 확인과 현재 상태 조회를 한 번씩 수행한 뒤, 현재 상태별로 묶어 조건부 UPDATE로 변경합니다.
+     * 조회 이후 다른 요청이 상태를 바꿔 변경된 수가 맞지 않으면 전체를 롤백합니다.
+     * @param campaignId 캠페인 ID
+     * @param clientUserId CLIENT 사용자 ID (권한 확인용)
+     * @param applicationIds 변경할 신청 ID 목록
+     * @param targetStatus 변경할 상태 (APPROVED/REJECTED/COMPLETED)
+     * @return 변경 결과
+     * @throws ResourceNotFoundException 캠페인이 없거나 캠페인에 속하지 않은 신청이 포함된 경우
+     * @throws AccessDeniedException 본인이 만든 캠페인이 아닌 경우
+     * @throws IllegalStateException 변경할 수 없는 상태의 신청이 포함된 경우
+     * @throws OptimisticLockingFailureException 처리 중 다른 요청이 신청 상태를 변경한 경우
+     */
+    @Transactional
+    public ApplicationBulkStatusResponse updateApplicationStatuses(Long campaignId, Long clientUserId,
+                                                                   List<Long> applicationIds, ApplicationStatus targetStatus) {
+        Long creatorId = campaignRepository.findCreatorIdById(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("캠페인을 찾을 수 없습니다. ID: " + campaignId));
+        
+        // 권한 체크: 본인이 만든 캠페인인지 확인
+        if (!creatorId.equals(clientUserId)) {
+            throw new AccessDeniedException("본인이 만든 캠페인의 신청만 변경할 수 있습니다.");
+        }
+        
+        Set<Long> requestedIds = new LinkedHashSet<>(applicationIds);
+        Map<ApplicationStatus, List<Long>> idsByStatus = new EnumMap<>(ApplicationStatus.class);
+        for (Object[] row : applicationRepository.findStatusRowsByCampaignIdAndIdIn(campaignId, requestedIds)) {
+            idsByStatus.computeIfAbsent((ApplicationStatus) row[1], status -> new ArrayList<>()).add((Long) row[0]);
+        }
+        
+        int foundCount = idsByStatus.values().stream().mapToInt(List::size).sum();
+        if (foundCount != requestedIds.size()) {
+            throw new ResourceNotFoundException("캠페인에 속하지 않거나 존재하지 않는 신청이 포함되어 있습니다.");
+        }
+        
+        // 이미 요청한 상태인 신청은 변경하지 않음
+        List<Long> unchangedIds = idsByStatus.remove(targetStatus);
+        for (ApplicationStatus currentStatus : idsByStatus.keySet()) {
+            if (!currentStatus.canTransitionTo(targetStatus)) {
+                throw new IllegalStateException(currentStatus.getDescription() + " 상태의 신청은 "
+                        + targetStatus.getDescription() + " 상태로 변경할 수 없습니다.");
+            }
+        }
+        
+        ZonedDateTime now = ZonedDateTime.now();
+        int updatedCount = 0;
+        for (Map.Entry<ApplicationStatus, List<Long>> entry : idsByStatus.entrySet()) {
+            int updated = applicationRepository.updateStatusIfMatches(
+                    campaignId, entry.getValue(), entry.getKey(), targetStatus, now);
+            if (updated != entry.getValue().size()) {
+                throw new OptimisticLockingFailureException("다른 요청에서 신청 상태가 변경되었습니다. 다시 시도해주세요.");
+            }
+            // 대기 상태에서 벗어나는 묶음만 신청자 수 카운터와 캐시에 반영됨
+            applicantCountService.applyTransition(campaignId, entry.getKey(), targetStatus, updated);
+            updatedCount += updated;
+        }
+        
+        log.info("캠페인 신청 상태 일괄 변경 완료: campaignId={}, status={}, updated={}, unchanged={}",
+                campaignId, targetStatus, updatedCount, unchangedIds != null ? unchangedIds.size() : 0);
+        
+        return ApplicationBulkStatusResponse.builder()
+                .campaignId(campaignId)
+                .applicationStatus(targetStatus.name())
+                .updatedCount(updatedCount)
+                .unchangedCount(unchangedIds != null ? unchangedIds.size() : 0)
+                .build();
+    }
+
     /**
      * 특정 캠페인의 신청자 목록을 조회합니다. (CLIENT 전용)
      * @param campaignId 캠페인 ID
@@ -381,11 +542,11 @@ public class CampaignApplicationService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<CampaignApplication> applications;
         
-        // applicationStatus 필터링
+        // applicationStatus 필터링 (신청자는 JOIN FETCH로 함께 조회)
         if (applicationStatus != null && !applicationStatus.trim().isEmpty()) {
             try {
                 ApplicationStatus status = ApplicationStatus.valueOf(applicationStatus.toUpperCase());
-                applications = applicationRepository.findByCampaignAndApplicationStatus(campaign, status, pageable);
+                applications = applicationRepository.findWithUserByCampaignIdAndApplicationStatus(campaign.getId(), status, pageable);
             } catch (IllegalArgumentException e) {
                 log.warn("잘못된 신청 상태 값: {}", applicationStatus);
                 // 잘못된 상태값인 경우 빈 결과 반환
@@ -393,16 +554,23 @@ public class CampaignApplicationService {
             }
         } else {
             // 필터링 없이 모든 신청 조회
-            applications = applicationRepository.findByCampaign(campaign, pageable);
+            applications = applicationRepository.findWithUserByCampaignId(campaign.getId(), pageable);
         }
         
+        // 페이지 신청자들의 SNS 플랫폼 정보를 한 번에 조회하여 사용자별로 묶음
+        List<Long> userIds = applications.getContent().stream()
+                .map(application -> application.getUser().getId())
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, List<UserSnsPlatform>> snsPlatformsByUser = userIds.isEmpty()
+                ? Collections.emptyMap()
+                : userSnsPlatformRepository.findByUserIdIn(userIds).stream()
+                        .collect(Collectors.groupingBy(platform -> platform.getUser().getId()));
+        
         // ApplicationResponse를 CampaignApplicantResponse로 변환
         List<CampaignApplicantResponse> content = applications.getContent().stream()
-                .map(application -> {
-                    // 각 신청자의 SNS 플랫폼 정보 조회
-                    List<UserSnsPlatform> snsPlatforms = userSnsPlatformRepository.findByUserId(application.getUser().getId());
-                    return CampaignApplicantResponse.fromEntity(application, snsPlatforms);
-                })
+                .map(application -> CampaignApplicantResponse.fromEntity(application,
+                        snsPlatformsByUser.getOrDefault(application.getUser().getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
         
         return new PageResponse<>(
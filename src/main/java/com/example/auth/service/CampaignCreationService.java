@@ -4,22 +4,30 @@ import com.example.auth.domain.Campaign;
 import com.example.auth.domain.CampaignCategory;
 import com.example.auth.domain.Company;
 import com.example.auth.domain.User;
+import com.example.auth.domain.VisitLocation;
 import com.example.auth.dto.campaign.CreateCampaignRequest;
 import com.example.auth.dto.campaign.CreateCampaignResponse;
 import com.example.auth.dto.company.CompanyRequest;
+import com.example.auth.event.CampaignChangedEvent;
 import com.example.auth.exception.AccessDeniedException;
 import com.example.auth.exception.ResourceNotFoundException;
 import com.example.auth.repository.CampaignCategoryRepository;
 import com.example.auth.repository.CampaignRepository;
 import com.example.auth.repository.CompanyRepository;
 import com.example.auth.repository.UserRepository;
+import com.example.auth.repository.VisitLocationRepository;
 import com.example.auth.service.CompanyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 캠페인 생성 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -38,8 +46,10 @@ public class CampaignCreationService {
     private final CompanyRepository companyRepository;
     private final CompanyService companyService;
     private final UserRepository userRepository;
+    private final VisitLocationRepository visitLocationRepository;
     private final S3Service s3Service;
     private final ImageProcessingService imageProcessingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 캠페인 생성 메서드
@@ -90,6 +100,9 @@ public class CampaignCreationService {
         
         // 캠페인 저장
         Campaign savedCampaign = campaignRepository.save(campaign);
+
+        // 방문 위치 저장 (방문형 캠페인)
+        saveVisitLocations(savedCampaign, request.getVisitLocations());
         
         // 비동기로 리사이징 완료 후 썸네일 URL 업데이트
         if (request.getThumbnailUrl() != null && !request.getThumbnailUrl().isEmpty()) {
@@ -99,6 +112,8 @@ public class CampaignCreationService {
         
         log.info("캠페인이 성공적으로 생성되었습니다. ID: {}, 제목: {}, 생성자: {}", 
                 savedCampaign.getId(), savedCampaign.getTitle(), user.getNickname());
+
+        eventPublisher.publishEvent(CampaignChangedEvent.created(savedCampaign));
         
         return CreateCampaignResponse.fromEntity(savedCampaign);
     }
@@ -181,7 +196,8 @@ public class CampaignCreationService {
             }
         }
 
-        // 캠페인 정보 업데이트
+        // 캠페인 정보 업데이트 (변경 전 필터 속성은 캐시 무효화용으로 보관)
+        CampaignChangedEvent.Attributes previousAttributes = CampaignChangedEvent.Attributes.of(campaign);
         updateCampaignFields(campaign, request, category, company);
         
         // 썸네일 URL 처리 (일단 원본 CloudFront URL로 저장)
@@ -194,11 +210,19 @@ public class CampaignCreationService {
             imageProcessingService.updateCampaignThumbnailWhenReady(campaign.getId(), cleanUrl);
         }
 
+        // 방문 위치 교체 (요청에 방문 위치가 있는 경우에만 기존 위치 삭제 후 요청 위치 저장)
+        if (request.getVisitLocations() != null) {
+            visitLocationRepository.deleteByCampaignId(campaign.getId());
+            saveVisitLocations(campaign, request.getVisitLocations());
+        }
+
         // 승인 상태를 다시 PENDING으로 변경
         campaign.resetApprovalStatus();
 
         log.info("캠페인이 수정되었습니다. ID: {}, 제목: {}", campaign.getId(), campaign.getTitle());
 
+        eventPublisher.publishEvent(CampaignChangedEvent.updated(campaign, previousAttributes));
+
         return CreateCampaignResponse.fromEntity(campaign);
     }
 
@@ -217,6 +241,7 @@ public class CampaignCreationService {
         campaign.setRecruitmentStartDate(request.getRecruitmentStartDate());
         campaign.setRecruitmentEndDate(request.getRecruitmentEndDate());
         campaign.setApplicationDeadlineDate(request.getApplicationDeadlineDate());
+        campaign.refreshRecruitmentStatus(LocalDate.now());
         campaign.setSelectionDate(request.getSelectionDate());
         campaign.setReviewDeadlineDate(request.getReviewDeadlineDate());
         campaign.setSelectionCriteria(request.getSelectionCriteria());
@@ -225,6 +250,39 @@ public class CampaignCreationService {
         campaign.setCategory(category);
     }
 
+    /**
+     * 요청의 방문 위치 정보를 저장합니다.
+     * 운영시간, 휴무일, 주차 정보는 별도 컬럼이 없으므로 추가 정보에 함께 기록합니다.
+     */
+    private void saveVisitLocations(Campaign campaign, List<CreateCampaignRequest.VisitLocationRequest> locationRequests) {
+        if (locationRequests == null || locationRequests.isEmpty()) {
+            return;
+        }
+
+        List<VisitLocation> locations = locationRequests.stream()
+                .map(location -> VisitLocation.builder()
+                        .campaign(campaign)
+                        .address(location.getAddress())
+                        .latitude(location.getLatitude())
+                        .longitude(location.getLongitude())
+                        .additionalInfo(buildAdditionalInfo(location))
+                        .build())
+                .toList();
+        visitLocationRepository.saveAll(locations);
+    }
+
+    private String buildAdditionalInfo(CreateCampaignRequest.VisitLocationRequest location) {
+        String additionalInfo = Stream.of(
+                        location.getOperatingHours() != null ? "운영시간: " + location.getOperatingHours() : null,
+                        location.getClosedDays() != null ? "휴무일: " + location.getClosedDays() : null,
+                        location.getParkingInfo() != null ? "주차: " + location.getParkingInfo() : null,
+                        location.getAdditionalInfo())
+                .filter(Objects::nonNull)
+                .filter(info -> !info.isBlank())
+                .collect(Collectors.joining("\n"));
+        return additionalInfo.isEmpty() ? null : additionalInfo;
+    }
+
     /**
      * 카테고리 정보로 카테고리를 조회합니다.
      * @param categoryInfo 카테고리 타입과 이름 정보
@@ -0,0 +1,85 @@
+package com.example.auth.service;
+
+import com.example.auth.dto.campaign.CampaignDetailSnapshot;
+import com.example.auth.event.CampaignChangedEvent;
+import com.example.auth.exception.ResourceNotFoundException;
+import com.example.auth.repository.CampaignRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 캠페인 상세 스냅샷 서비스
+ *
+ * 캠페인별 상세 스냅샷을 2단계 캐시에 보관하여 상세 화면 조회가 최대 한 번의 DB 조회로 끝나도록 합니다.
+ * 캠페인 수정/썸네일 변경이 커밋되면 해당 캠페인의 스냅샷만 모든 서버에서 무효화합니다.
+ * 커밋 전에 시작된 조회는 무효화 버전이 바뀌어 저장되지 않으므로, 무효화 이후 이전 스냅샷이 TTL(30분) 동안 남지 않습니다.
+ * 신청 인원은 신청마다 바뀌므로 스냅샷을 무효화하지 않고, 서버별로 몇 초간만 캐시한 카운터 값(PK 조회)을 덧씌웁니다.
+ * 신청이 몰리는 캠페인에서도 스냅샷은 계속 재사용되고, 신청 인원 조회는 캠페인당 수 초에 한 번으로 제한됩니다.
+ */
+@Slf4j
+@Service
+public class CampaignDetailSnapshotService {
+
+    private static final String CACHE_NAME = "campaign-detail";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+    private static final TypeReference<CampaignDetailSnapshot> SNAPSHOT_TYPE = new TypeReference<>() {};
+
+    private final CampaignRepository campaignRepository;
+    private final TwoTierCacheService twoTierCacheService;
+    private final Cache<Long, Integer> applicantCountCache;
+
+    public CampaignDetailSnapshotService(
+            CampaignRepository campaignRepository,
+            TwoTierCacheService twoTierCacheService,
+            @Value("${campaign.detail.applicant-count-cache.max-size:10000}") long applicantCountMaxSize,
+            @Value("${campaign.detail.applicant-count-cache.ttl-seconds:5}") long applicantCountTtlSeconds) {
+        this.campaignRepository = campaignRepository;
+        this.twoTierCacheService = twoTierCacheService;
+        this.applicantCountCache = Caffeine.newBuilder()
+                .maximumSize(applicantCountMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(applicantCountTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 캠페인 상세 스냅샷 조회 (승인 상태 무관)
+     * @throws ResourceNotFoundException 캠페인이 없는 경우
+     */
+    public CampaignDetailSnapshot getSnapshot(Long campaignId) {
+        CampaignDetailSnapshot snapshot = twoTierCacheService.get(CACHE_NAME, String.valueOf(campaignId), CACHE_TTL, SNAPSHOT_TYPE,
+                () -> campaignRepository.findDetailById(campaignId)
+                        .map(CampaignDetailSnapshot::fromEntity)
+                        .orElseThrow(() -> new ResourceNotFoundException("캠페인을 찾을 수 없습니다.")));
+
+        Integer currentApplicants = applicantCountCache.get(campaignId,
+                id -> campaignRepository.findCurrentApplicantsById(id).orElse(null));
+        return currentApplicants != null ? snapshot.withCurrentApplicants(currentApplicants) : snapshot;
+    }
+
+    /**
+     * 캠페인 스냅샷 무효화
+     */
+    public void evict(Long campaignId) {
+        twoTierCacheService.evict(CACHE_NAME, String.valueOf(campaignId));
+        applicantCountCache.invalidate(campaignId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        // 새로 생성된 캠페인은 아직 스냅샷이 없음
+        if (event.getChangeType() == CampaignChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        evict(event.getCampaignId());
+        log.debug("캠페인 변경으로 상세 스냅샷 무효화 - campaignId: {}, type: {}",
+                event.getCampaignId(), event.getChangeType());
+    }
+}
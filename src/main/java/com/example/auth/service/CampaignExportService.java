@@ -0,0 +1,67 @@
+package com.example.auth.service;
+
+import com.example.auth.dto.campaign.CampaignExportRow;
+import com.example.auth.repository.CampaignRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 캠페인 내보내기 서비스
+ *
+ * 전체 캠페인을 한 줄에 하나씩 JSON으로 쓰는 NDJSON 형식으로 출력합니다.
+ * DB 커서에서 fetch size 단위로 읽은 행을 바로 응답 스트림에 쓰므로 캠페인 수와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignExportService {
+
+    private static final int FLUSH_INTERVAL = 500;  // 응답 스트림 flush 주기 (행)
+
+    private final CampaignRepository campaignRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 캠페인을 NDJSON으로 출력합니다.
+     * PostgreSQL은 트랜잭션 안에서만 fetch size 단위 커서 조회를 하므로 읽기 전용 트랜잭션에서 실행합니다.
+     * @return 출력한 캠페인 수
+     */
+    @Transactional(readOnly = true)
+    public long exportCampaigns(OutputStream outputStream) throws IOException {
+        long startTime = System.currentTimeMillis();
+        long count = 0;
+
+        // 행마다 flush하지 않고, 값 사이 기본 구분자(공백) 대신 줄바꿈만 직접 씀
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        try (Stream<Object[]> rows = campaignRepository.streamExportRows()) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, CampaignExportRow.fromRow(iterator.next()));
+                generator.writeRaw('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        } finally {
+            generator.close();
+        }
+
+        log.info("캠페인 내보내기 완료 - {}개, 소요 시간: {}ms", count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+}
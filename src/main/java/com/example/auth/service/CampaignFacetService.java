@@ -0,0 +1,131 @@
+package com.example.auth.service;
+
+import com.example.auth.dto.campaign.CampaignFacetResponse;
+import com.example.auth.dto.campaign.CampaignFilterCondition;
+import com.example.auth.event.CampaignChangedEvent;
+import com.example.auth.repository.CampaignRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 캠페인 목록 필터 개수(facet) 서비스
+ *
+ * 카테고리명 x 캠페인 타입 조합별 캠페인 수를 한 번의 그룹 쿼리로 조회해 캐시하고,
+ * 요청의 선택 상태에 맞춰 카테고리명별/플랫폼별 개수를 메모리에서 합산합니다.
+ * 카테고리명과 플랫폼 선택이 바뀌어도 같은 집계를 재사용하므로 필터 칩마다 COUNT 쿼리를 실행하지 않습니다.
+ */
+@Slf4j
+@Service
+public class CampaignFacetService {
+
+    private final CampaignRepository campaignRepository;
+    private final Cache<String, List<FacetCell>> cache;  // 카테고리 타입 + 키워드 -> 조합별 개수
+
+    public CampaignFacetService(
+            CampaignRepository campaignRepository,
+            @Value("${campaign.facet-cache.max-size:200}") long maxSize,
+            @Value("${campaign.facet-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.campaignRepository = campaignRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 조회 조건에 대한 필터별 캠페인 수를 계산합니다.
+     * - 카테고리명별 개수: 선택된 플랫폼 조건만 적용
+     * - 플랫폼별 개수: 선택된 카테고리명 조건만 적용
+     */
+    public CampaignFacetResponse getFacets(CampaignFilterCondition condition) {
+        List<FacetCell> cells = getCells(condition);
+        return CampaignFacetResponse.builder()
+                .categoryNames(sumBy(cells, FacetCell::categoryName, typeSelected(condition)))
+                .campaignTypes(sumBy(cells, FacetCell::campaignType, nameSelected(condition)))
+                .build();
+    }
+
+    /**
+     * 조회 조건 전체(카테고리명, 플랫폼 포함)에 해당하는 캠페인 수를 캐시된 집계로 계산합니다.
+     * 집계 이후의 삭제 등은 TTL이 지날 때까지 반영되지 않으므로 추정값으로 사용합니다.
+     * @return ID 목록 조건처럼 집계로 계산할 수 없는 조건이면 empty
+     */
+    public OptionalLong countMatching(CampaignFilterCondition condition) {
+        if (condition.hasCampaignIds()) {
+            return OptionalLong.empty();
+        }
+        Predicate<FacetCell> selected = typeSelected(condition).and(nameSelected(condition));
+        return OptionalLong.of(getCells(condition).stream()
+                .filter(selected)
+                .mapToLong(FacetCell::count)
+                .sum());
+    }
+
+    /**
+     * 캠페인 생성/수정 시 카테고리나 플랫폼이 바뀔 수 있으므로 전체 집계를 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        if (event.getChangeType() == CampaignChangedEvent.ChangeType.THUMBNAIL_UPDATED) {
+            return;
+        }
+        cache.invalidateAll();
+    }
+
+    private List<FacetCell> getCells(CampaignFilterCondition condition) {
+        String key = (condition.getCategoryType() != null ? condition.getCategoryType().name() : "")
+                + "|" + (condition.hasKeyword() ? condition.getKeyword().toLowerCase() : "");
+        return cache.get(key, k -> loadCells(condition));
+    }
+
+    private Predicate<FacetCell> typeSelected(CampaignFilterCondition condition) {
+        return cell -> !condition.hasCampaignTypes() || condition.getCampaignTypes().contains(cell.campaignType());
+    }
+
+    private Predicate<FacetCell> nameSelected(CampaignFilterCondition condition) {
+        return cell -> !condition.hasCategoryName() || condition.getCategoryName().equals(cell.categoryName());
+    }
+
+    private List<FacetCell> loadCells(CampaignFilterCondition condition) {
+        return campaignRepository.countByCategoryNameAndCampaignType(condition).stream()
+                .map(row -> new FacetCell((String) row[0], (String) row[1], (Long) row[2]))
+                .toList();
+    }
+
+    /**
+     * 선택 조건을 만족하는 조합의 개수를 필터 값별로 합산합니다.
+     * 조건을 만족하는 조합이 없는 값도 0개로 포함하여 칩이 사라지지 않게 합니다.
+     */
+    private List<CampaignFacetResponse.FacetCount> sumBy(List<FacetCell> cells, Function<FacetCell, String> valueOf,
+                                                         Predicate<FacetCell> selected) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (FacetCell cell : cells) {
+            counts.merge(valueOf.apply(cell), selected.test(cell) ? cell.count() : 0L, Long::sum);
+        }
+        return counts.entrySet().stream()
+                .map(entry -> CampaignFacetResponse.FacetCount.builder()
+                        .value(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparingLong(CampaignFacetResponse.FacetCount::getCount).reversed()
+                        .thenComparing(CampaignFacetResponse.FacetCount::getValue))
+                .toList();
+    }
+
+    private record FacetCell(String categoryName, String campaignType, long count) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.Campaign;
+import com.example.auth.event.CampaignPhaseChangedEvent;
+import com.example.auth.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 캠페인 진행 단계 서비스
+ *
+ * 캠페인 일정으로 현재 진행 단계를 계산하여 저장된 단계와 다르면 변경하고
+ * {@link CampaignPhaseChangedEvent}를 발행합니다. 언제 호출할지는 {@link CampaignLifecycleTimerService}가 정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignLifecycleService {
+
+    private final CampaignRepository campaignRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 종료되지 않은 캠페인의 일정 목록
+     */
+    @Transactional(readOnly = true)
+    public List<LifecycleSchedule> findActiveSchedules() {
+        return campaignRepository.findLifecycleRows(Campaign.LifecyclePhase.COMPLETED).stream()
+                .map(LifecycleSchedule::from)
+                .toList();
+    }
+
+    /**
+     * 캠페인의 진행 단계를 기준 날짜에 맞게 갱신합니다.
+     * 커밋 이후 이벤트 리스너에서도 호출되므로 항상 새 트랜잭션에서 실행합니다.
+     * @return 다음 단계 경계 날짜 (캠페인이 없거나 종료 단계면 empty)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<LocalDate> synchronize(Long campaignId, LocalDate currentDate) {
+        List<Object[]> rows = campaignRepository.findLifecycleRowById(campaignId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LifecycleSchedule schedule = LifecycleSchedule.from(rows.get(0));
+        Campaign.LifecyclePhase currentPhase = schedule.phaseAt(currentDate);
+        if (currentPhase != schedule.phase()
+                && campaignRepository.updateLifecyclePhase(campaignId, schedule.phase(), currentPhase) > 0) {
+            log.info("캠페인 진행 단계 변경 - campaignId: {}, {} -> {}", campaignId, schedule.phase(), currentPhase);
+            eventPublisher.publishEvent(new CampaignPhaseChangedEvent(campaignId, schedule.phase(), currentPhase));
+        }
+        return Optional.ofNullable(schedule.nextBoundary(currentDate));
+    }
+
+    /**
+     * 진행 단계 계산에 필요한 캠페인 일정
+     */
+    public record LifecycleSchedule(Long campaignId,
+                                    Campaign.LifecyclePhase phase,
+                                    LocalDate recruitmentStartDate,
+                                    LocalDate applicationDeadlineDate,
+                                    LocalDate selectionDate,
+                                    LocalDate reviewDeadlineDate) {
+
+        private static LifecycleSchedule from(Object[] row) {
+            return new LifecycleSchedule(
+                    (Long) row[0],
+                    (Campaign.LifecyclePhase) row[1],
+                    (LocalDate) row[2],
+                    (LocalDate) row[3],
+                    (LocalDate) row[4],
+                    (LocalDate) row[5]);
+        }
+
+        public Campaign.LifecyclePhase phaseAt(LocalDate currentDate) {
+            return Campaign.LifecyclePhase.of(
+                    recruitmentStartDate, applicationDeadlineDate, selectionDate, reviewDeadlineDate, currentDate);
+        }
+
+        public LocalDate nextBoundary(LocalDate currentDate) {
+            return Campaign.LifecyclePhase.nextBoundary(
+                    recruitmentStartDate, applicationDeadlineDate, selectionDate, reviewDeadlineDate, currentDate);
+        }
+    }
+}
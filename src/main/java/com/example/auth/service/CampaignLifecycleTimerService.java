@@ -0,0 +1,147 @@
+package com.example.auth.service;
+
+import com.example.auth.event.CampaignChangedEvent;
+import com.example.auth.util.HierarchicalTimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 캠페인 진행 단계 타이머 서비스
+ *
+ * 캠페인마다 다음 단계 경계(해당 날짜 0시)를 계층형 타이밍 휠에 예약해 두고,
+ * 경계가 지나면 {@link CampaignLifecycleService}로 단계를 갱신한 뒤 다음 경계를 다시 예약합니다.
+ * 시작 시 종료되지 않은 캠페인 전체를 적재하며, 서버가 내려가 있는 동안 지난 경계는 적재 시 바로 반영합니다.
+ * 캠페인 생성/수정 시에는 바뀐 일정으로 다시 예약합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignLifecycleTimerService {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 60;  // 1초 x 60 → 1분 x 60 → 1시간 x 60 → ...
+    private static final long RETRY_DELAY_MILLIS = 60_000;  // 단계 갱신 실패 시 재시도 간격
+
+    private final CampaignLifecycleService lifecycleService;
+
+    private final HierarchicalTimingWheel<ScheduledTransition> wheel =
+            new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    private final Map<Long, Long> scheduledAt = new HashMap<>();  // 캠페인 ID -> 예약된 경계 시각 (일정 변경 시 이전 예약 무시용)
+    private volatile boolean ready = false;
+
+    /**
+     * 종료되지 않은 캠페인의 다음 단계 경계를 모두 예약합니다.
+     */
+    public void load() {
+        long startTime = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        int synchronizedCount = 0;
+
+        for (CampaignLifecycleService.LifecycleSchedule schedule : lifecycleService.findActiveSchedules()) {
+            LocalDate nextBoundary;
+            if (schedule.phaseAt(today) != schedule.phase()) {
+                // 서버가 내려가 있는 동안 경계가 지났거나 단계가 아직 계산되지 않은 캠페인
+                nextBoundary = lifecycleService.synchronize(schedule.campaignId(), today).orElse(null);
+                synchronizedCount++;
+            } else {
+                nextBoundary = schedule.nextBoundary(today);
+            }
+            schedule(schedule.campaignId(), nextBoundary);
+        }
+
+        ready = true;
+        log.info("캠페인 진행 단계 예약 완료 - 예약: {}개, 즉시 갱신: {}개, 소요 시간: {}ms",
+                scheduledCount(), synchronizedCount, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 타이밍 휠을 현재 시각까지 진행하고, 경계가 지난 캠페인의 단계를 갱신합니다.
+     */
+    public void tick() {
+        if (!ready) {
+            return;
+        }
+
+        List<Long> dueCampaignIds = new ArrayList<>();
+        synchronized (this) {
+            for (ScheduledTransition transition : wheel.advance(System.currentTimeMillis())) {
+                // 일정이 바뀌어 다시 예약된 캠페인의 이전 예약은 무시
+                if (Objects.equals(scheduledAt.get(transition.campaignId()), transition.expirationMillis())) {
+                    scheduledAt.remove(transition.campaignId());
+                    dueCampaignIds.add(transition.campaignId());
+                }
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        for (Long campaignId : dueCampaignIds) {
+            try {
+                schedule(campaignId, lifecycleService.synchronize(campaignId, today).orElse(null));
+            } catch (Exception e) {
+                // 예약은 이미 제거되었으므로 다시 예약하지 않으면 이 캠페인은 더 이상 갱신되지 않음
+                log.warn("캠페인 진행 단계 갱신 실패, {}ms 후 재시도 - campaignId: {}, error: {}",
+                        RETRY_DELAY_MILLIS, campaignId, e.getMessage());
+                scheduleRetry(campaignId);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        if (event.getChangeType() == CampaignChangedEvent.ChangeType.THUMBNAIL_UPDATED) {
+            return;
+        }
+        try {
+            LocalDate nextBoundary = lifecycleService.synchronize(event.getCampaignId(), LocalDate.now()).orElse(null);
+            schedule(event.getCampaignId(), nextBoundary);
+        } catch (Exception e) {
+            log.warn("캠페인 진행 단계 예약 실패, {}ms 후 재시도 - campaignId: {}, error: {}",
+                    RETRY_DELAY_MILLIS, event.getCampaignId(), e.getMessage());
+            scheduleRetry(event.getCampaignId());
+        }
+    }
+
+    public synchronized int scheduledCount() {
+        return scheduledAt.size();
+    }
+
+    /**
+     * 다음 경계 날짜 0시에 단계 갱신을 예약합니다. (경계가 없으면 기존 예약만 제거)
+     */
+    private synchronized void schedule(Long campaignId, LocalDate boundary) {
+        if (boundary == null) {
+            scheduledAt.remove(campaignId);
+            return;
+        }
+
+        long expirationMillis = boundary.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // 이미 지난 시각이면 다음 tick에 처리
+        scheduleAt(campaignId, Math.max(expirationMillis, System.currentTimeMillis() + TICK_MILLIS));
+    }
+
+    /**
+     * 갱신에 실패한 캠페인을 재시도 간격 뒤에 다시 예약합니다.
+     */
+    private void scheduleRetry(Long campaignId) {
+        scheduleAt(campaignId, System.currentTimeMillis() + RETRY_DELAY_MILLIS);
+    }
+
+    private synchronized void scheduleAt(Long campaignId, long expirationMillis) {
+        scheduledAt.put(campaignId, expirationMillis);
+        wheel.add(expirationMillis, new ScheduledTransition(campaignId, expirationMillis));
+    }
+
+    private record ScheduledTransition(Long campaignId, long expirationMillis) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.auth.service;
+
+import com.example.auth.dto.campaign.CampaignFilterCondition;
+import com.example.auth.event.CampaignChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 캠페인 목록 페이지 로컬 캐시 서비스
+ *
+ * 정규화된 필터 조건 + 페이지 정보를 키로 목록 조회 결과를 크기/TTL 제한 캐시에 보관합니다.
+ * 각 항목은 조회 조건과 포함된 캠페인 ID를 함께 기억하므로, 캠페인 생성/수정/삭제 시
+ * 영향을 받을 수 있는 항목만 커밋 이후에 골라서 무효화합니다.
+ * 신청자 수 변경으로는 무효화하지 않으며, 신청 인원과 인기순 순서는 TTL(기본 60초) 동안 이전 값일 수 있습니다.
+ * (신청이 몰릴 때 신청마다 전체 항목을 검사/무효화하면 인기순 목록 캐시가 적중하지 못하므로)
+ */
+@Slf4j
+@Service
+public class CampaignListCacheService {
+
+    private final boolean enabled;
+    private final Cache<String, CachedList> cache;
+
+    // 무효화가 일어날 때마다 증가 - 조회 도중 무효화된 결과를 캐시에 넣지 않기 위해 사용
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    public CampaignListCacheService(
+            @Value("${campaign.list-cache.enabled:true}") boolean enabled,
+            @Value("${campaign.list-cache.max-size:500}") long maxSize,
+            @Value("${campaign.list-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        log.info("캠페인 목록 캐시 설정 - enabled: {}, maxSize: {}, ttl: {}초", enabled, maxSize, ttlSeconds);
+    }
+
+    /**
+     * 캐시에서 목록을 조회하고, 없으면 loader로 조회한 결과를 캐시에 저장합니다.
+     * @param condition 조회 조건 (무효화 대상 판단에 사용)
+     * @param pageKey 페이지 구분 값 (모드, 페이지 번호, 크기, 커서 등)
+     * @param loader 실제 조회 로직
+     * @param campaignIdsOf 결과에 포함된 캠페인 ID 추출 함수
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(CampaignFilterCondition condition, String pageKey,
+                     Supplier<T> loader, Function<T, Collection<Long>> campaignIdsOf) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = condition.toCacheKey() + "#" + pageKey;
+        CachedList cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached.value();
+        }
+
+        long versionBeforeLoad = invalidationVersion.get();
+        T value = loader.get();
+
+        // 조회 중에 무효화가 있었다면 이전 데이터일 수 있으므로 저장하지 않음
+        if (invalidationVersion.get() == versionBeforeLoad) {
+            cache.put(key, new CachedList(condition, Set.copyOf(campaignIdsOf.apply(value)), value));
+        }
+        return value;
+    }
+
+    /**
+     * 캠페인 생성/수정 시 영향을 받는 목록만 무효화합니다.
+     * - 해당 캠페인을 포함한 목록
+     * - 변경 전/후 속성으로 결과에 새로 들어가거나 빠질 수 있는 목록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        Long campaignId = event.getCampaignId();
+        CampaignChangedEvent.Attributes current = event.getCurrent();
+        CampaignChangedEvent.Attributes previous = event.getPrevious();
+
+        int evicted = evictIf(entry -> entry.campaignIds().contains(campaignId)
+                || mayInclude(entry.condition(), current)
+                || mayInclude(entry.condition(), previous));
+
+        log.debug("캠페인 변경으로 목록 캐시 무효화 - campaignId: {}, type: {}, evicted: {}",
+                campaignId, event.getChangeType(), evicted);
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void invalidateAll() {
+        invalidationVersion.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 적중/실패 통계
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    private int evictIf(Predicate<CachedList> predicate) {
+        invalidationVersion.incrementAndGet();
+
+        List<String> keys = cache.asMap().entrySet().stream()
+                .filter(e -> predicate.test(e.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        cache.invalidateAll(keys);
+        return keys.size();
+    }
+
+    private boolean mayInclude(CampaignFilterCondition condition, CampaignChangedEvent.Attributes attributes) {
+        return attributes != null && condition.mayInclude(
+                attributes.getCategoryType(), attributes.getCategoryName(), attributes.getCampaignType());
+    }
+
+    /**
+     * 캐시 항목 - 조회 조건, 포함된 캠페인 ID, 조회 결과
+     */
+    private record CachedList(CampaignFilterCondition condition, Set<Long> campaignIds, Object value) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.Campaign;
+import com.example.auth.event.CampaignPhaseChangedEvent;
+import com.example.auth.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+/**
+ * 캠페인 모집 상태 갱신 서비스
+ *
+ * 목록의 모집 중 우선 정렬은 저장된 recruitment_status 컬럼을 사용하므로,
+ * 진행 단계 타이머가 신청 마감 경계를 지나 {@link CampaignPhaseChangedEvent}를 발행하면 해당 캠페인만 바로 갱신하고,
+ * 매일 자정 일괄 갱신은 이벤트를 놓친 캠페인(서버 중단, 갱신 실패 등)을 보정합니다.
+ * 캠페인 생성/수정 시에는 엔티티에서 바로 다시 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignRecruitmentStatusService {
+
+    private final CampaignRepository campaignRepository;
+
+    /**
+     * 기준 날짜로 모집 상태를 일괄 갱신합니다.
+     * @return 상태가 바뀐 캠페인 수
+     */
+    @Transactional
+    public int refresh(LocalDate currentDate) {
+        int closed = campaignRepository.closeExpiredRecruitments(currentDate, Campaign.RecruitmentStatus.CLOSED);
+        int reopened = campaignRepository.reopenActiveRecruitments(currentDate, Campaign.RecruitmentStatus.RECRUITING);
+        if (reopened > 0) {
+            log.warn("모집 상태 불일치 보정 - 모집 중으로 변경: {}개 캠페인", reopened);
+        }
+        return closed + reopened;
+    }
+
+    /**
+     * 진행 단계가 바뀐 캠페인의 모집 상태를 갱신합니다.
+     * 커밋 이후에 실행되므로 새 트랜잭션에서 변경합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPhaseChanged(CampaignPhaseChangedEvent event) {
+        Campaign.RecruitmentStatus status = Campaign.RecruitmentStatus.of(event.getCurrentPhase());
+        if (campaignRepository.updateRecruitmentStatus(event.getCampaignId(), status) > 0) {
+            log.info("캠페인 모집 상태 변경 - campaignId: {}, status: {}", event.getCampaignId(), status);
+        }
+    }
+}
@@ -0,0 +1,471 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.Campaign;
+import com.example.auth.event.CampaignChangedEvent;
+import com.example.auth.event.CampaignPhaseChangedEvent;
+import com.example.auth.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 캠페인 검색용 n-gram 역색인 서비스
+ *
+ * 제목, 제품 간단 정보, 미션 키워드를 1~3글자 단위 n-gram으로 나누어 메모리 역색인을 구성합니다.
+ * 한글은 형태소 분석 없이도 부분 문자열 검색이 필요하므로, 검색어의 n-gram 포스팅 목록을 교집합한 뒤
+ * 실제 포함 여부를 확인하여 LIKE '%검색어%'와 같은 결과를 테이블 크기와 무관하게 찾습니다.
+ * 관련도순 검색은 같은 색인의 문서 빈도와 필드 길이 통계로 필드 가중 BM25(BM25F) 점수를 계산합니다.
+ * 시작 시 전체 색인을 만들고, 캠페인 생성/수정 시 해당 캠페인만 다시 색인합니다.
+ * 모집 중 우선 정렬은 목록 조회와 같이 저장된 recruitment_status를 사용하며, 진행 단계 변경 시 해당 캠페인의 상태만 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignSearchIndexService {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    // BM25F 파라미터 - 필드 순서: 제목, 제품 간단 정보, 미션 키워드
+    private static final int FIELD_COUNT = 3;
+    private static final double[] FIELD_WEIGHTS = {3.0, 1.5, 1.0};
+    private static final double[] FIELD_LENGTH_NORMS = {0.75, 0.75, 0.5};  // 필드별 b
+    private static final double K1 = 1.2;
+    private static final double TITLE_PHRASE_BOOST = 1.5;  // 제목에 검색어 전체가 포함된 경우
+    private static final double RECRUITING_BOOST = 1.2;  // 모집 중인 캠페인
+
+    private final CampaignRepository campaignRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, IndexedCampaign> documents = new HashMap<>();
+    private Map<String, Set<Long>> postings = new HashMap<>();
+    private long[] totalFieldLengths = new long[FIELD_COUNT];  // 평균 필드 길이 계산용
+    private volatile boolean ready = false;
+
+    // 전체 재색인 도중 변경된 캠페인 ID (재색인 완료 후 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding = false;
+
+    /**
+     * 전체 캠페인으로 색인을 새로 구성합니다.
+     * 새 색인을 별도로 만든 뒤 교체하므로 구성 중에도 기존 색인으로 검색할 수 있습니다.
+     */
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            Map<Long, IndexedCampaign> newDocuments = new HashMap<>();
+            Map<String, Set<Long>> newPostings = new HashMap<>();
+            long[] newFieldLengths = new long[FIELD_COUNT];
+            for (Object[] row : campaignRepository.findAllSearchIndexRows()) {
+                IndexedCampaign document = toDocument(row);
+                newDocuments.put(document.id(), document);
+                addPostings(newPostings, document);
+                addFieldLengths(newFieldLengths, document, 1);
+            }
+
+            lock.writeLock().lock();
+            try {
+                documents = newDocuments;
+                postings = newPostings;
+                totalFieldLengths = newFieldLengths;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("캠페인 검색 색인 구성 완료 - 캠페인: {}개, n-gram: {}개, 소요 시간: {}ms",
+                    newDocuments.size(), newPostings.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            rebuilding = false;
+        }
+
+        // 구성 중 변경된 캠페인은 새 색인에 다시 반영
+        for (Long campaignId : Set.copyOf(changedDuringRebuild)) {
+            reindex(campaignId);
+        }
+        changedDuringRebuild.clear();
+    }
+
+    /**
+     * 캠페인 하나를 다시 색인합니다. (삭제되었거나 목록 대상이 아니면 색인에서 제거)
+     */
+    public void reindex(Long campaignId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(campaignId);
+        }
+
+        List<Object[]> rows = campaignRepository.findSearchIndexRowById(campaignId);
+        IndexedCampaign document = rows.isEmpty() ? null : toDocument(rows.get(0));
+
+        lock.writeLock().lock();
+        try {
+            IndexedCampaign previous = documents.remove(campaignId);
+            if (previous != null) {
+                removePostings(previous);
+                addFieldLengths(totalFieldLengths, previous, -1);
+            }
+            if (document != null) {
+                documents.put(campaignId, document);
+                addPostings(postings, document);
+                addFieldLengths(totalFieldLengths, document, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        // 썸네일 변경은 검색 대상 필드와 무관
+        if (event.getChangeType() == CampaignChangedEvent.ChangeType.THUMBNAIL_UPDATED) {
+            return;
+        }
+        try {
+            reindex(event.getCampaignId());
+        } catch (Exception e) {
+            log.warn("캠페인 검색 색인 갱신 실패 - campaignId: {}, error: {}", event.getCampaignId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 단계가 바뀐 캠페인의 모집 상태를 색인에 반영합니다. (검색 대상 텍스트는 그대로이므로 포스팅은 유지)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPhaseChanged(CampaignPhaseChangedEvent event) {
+        Campaign.RecruitmentStatus status = Campaign.RecruitmentStatus.of(event.getCurrentPhase());
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getCampaignId());
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents.computeIfPresent(event.getCampaignId(),
+                    (campaignId, document) -> document.withRecruitmentStatus(status));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어를 포함하는 캠페인 ID를 모집 중 우선 + 최신순으로 정렬하여 반환합니다.
+     * @param keyword 검색어
+     * @return 색인이 준비되지 않았으면 빈 Optional
+     */
+    public Optional<List<Long>> search(String keyword) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String query = normalize(keyword);
+        if (query.isBlank()) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            List<IndexedCampaign> matches = new ArrayList<>();
+            for (Long campaignId : findCandidates(query)) {
+                IndexedCampaign document = documents.get(campaignId);
+                // n-gram 교집합은 순서를 보장하지 않으므로 실제 포함 여부로 확정
+                if (document != null && document.contains(query)) {
+                    matches.add(document);
+                }
+            }
+
+            matches.sort(Comparator
+                    .comparingInt(IndexedCampaign::recruitmentBucket)
+                    .thenComparing(IndexedCampaign::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(IndexedCampaign::id, Comparator.reverseOrder()));
+            return Optional.of(matches.stream().map(IndexedCampaign::id).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와의 관련도(BM25F) 순으로 상위 캠페인 ID를 반환합니다.
+     * 검색어의 단어별 2글자 n-gram(한 글자 단어는 1글자)을 검색어 항목으로 사용하며,
+     * 항목 중 하나라도 포함한 캠페인이 대상이 됩니다. 제목에 검색어 전체가 포함되거나 모집 중이면 가산점을 줍니다.
+     * @param offset 건너뛸 건수 (후보 수 이상이면 빈 페이지)
+     * @param limit 반환할 최대 건수
+     * @return 색인이 준비되지 않았으면 빈 Optional
+     */
+    public Optional<RankedResult> searchByRelevance(String keyword, long offset, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String query = normalize(keyword);
+        if (query.isBlank()) {
+            return Optional.of(new RankedResult(List.of(), 0));
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            double[] averageFieldLengths = new double[FIELD_COUNT];
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                averageFieldLengths[field] = documentCount > 0
+                        ? Math.max(1.0, (double) totalFieldLengths[field] / documentCount)
+                        : 1.0;
+            }
+
+            // 검색어 항목별 IDF와 후보(항목 중 하나라도 포함한 캠페인)
+            Map<String, Double> idfByTerm = new HashMap<>();
+            Set<Long> candidates = new HashSet<>();
+            for (String term : extractQueryTerms(query)) {
+                Set<Long> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                int documentFrequency = posting.size();
+                idfByTerm.put(term, Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5)));
+                candidates.addAll(posting);
+            }
+
+            // 후보 수를 넘는 페이지는 점수 계산 없이 빈 페이지로 응답
+            if (offset < 0 || limit < 1 || offset >= candidates.size()) {
+                return Optional.of(new RankedResult(List.of(), candidates.size()));
+            }
+
+            // 상위 offset + limit건만 유지하는 최소 힙 (후보 수를 넘지 않음)
+            int topK = (int) Math.min(offset + limit, candidates.size());
+            Comparator<ScoredCampaign> ranking = Comparator
+                    .comparingDouble(ScoredCampaign::score)
+                    .thenComparing(scored -> scored.document().createdAt(), Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(scored -> scored.document().id());
+            PriorityQueue<ScoredCampaign> topCampaigns = new PriorityQueue<>(ranking);
+
+            for (Long campaignId : candidates) {
+                IndexedCampaign document = documents.get(campaignId);
+                if (document == null) {
+                    continue;
+                }
+                double score = scoreBm25f(document, idfByTerm, averageFieldLengths);
+                if (document.title().contains(query)) {
+                    score *= TITLE_PHRASE_BOOST;
+                }
+                if (document.recruitmentStatus() == Campaign.RecruitmentStatus.RECRUITING) {
+                    score *= RECRUITING_BOOST;
+                }
+
+                topCampaigns.offer(new ScoredCampaign(document, score));
+                if (topCampaigns.size() > topK) {
+                    topCampaigns.poll();
+                }
+            }
+
+            List<ScoredCampaign> ranked = new ArrayList<>(topCampaigns);
+            ranked.sort(ranking.reversed());
+            List<Long> pageIds = ranked.stream()
+                    .skip(offset)
+                    .map(scored -> scored.document().id())
+                    .toList();
+            return Optional.of(new RankedResult(pageIds, candidates.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25F 점수 - 필드별 가중치와 길이 정규화를 적용한 항목 빈도를 합산한 뒤 포화 함수를 적용합니다.
+     */
+    private double scoreBm25f(IndexedCampaign document, Map<String, Double> idfByTerm, double[] averageFieldLengths) {
+        String[] fields = document.fields();
+        double score = 0;
+        for (Map.Entry<String, Double> entry : idfByTerm.entrySet()) {
+            double weightedFrequency = 0;
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                int frequency = countOccurrences(fields[field], entry.getKey());
+                if (frequency == 0) {
+                    continue;
+                }
+                double lengthNorm = 1 - FIELD_LENGTH_NORMS[field]
+                        + FIELD_LENGTH_NORMS[field] * fields[field].length() / averageFieldLengths[field];
+                weightedFrequency += FIELD_WEIGHTS[field] * frequency / lengthNorm;
+            }
+            score += entry.getValue() * weightedFrequency / (K1 + weightedFrequency);
+        }
+        return score;
+    }
+
+    /**
+     * 관련도 검색용 검색어 항목 - 단어별 2글자 n-gram (한 글자 단어는 그대로)
+     */
+    private static Set<String> extractQueryTerms(String query) {
+        Set<String> terms = new HashSet<>();
+        for (String word : query.split(" ")) {
+            if (word.length() == 1) {
+                terms.add(word);
+            } else {
+                terms.addAll(extractGrams(word, 2, 2));
+            }
+        }
+        return terms;
+    }
+
+    private static int countOccurrences(String text, String term) {
+        int count = 0;
+        int index = text.indexOf(term);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(term, index + 1);
+        }
+        return count;
+    }
+
+    private static void addFieldLengths(long[] target, IndexedCampaign document, int sign) {
+        String[] fields = document.fields();
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            target[field] += (long) sign * fields[field].length();
+        }
+    }
+
+    /**
+     * 검색어의 n-gram 포스팅 목록을 작은 것부터 교집합하여 후보 ID를 구합니다.
+     */
+    private Set<Long> findCandidates(String query) {
+        int gramLength = Math.min(query.length(), MAX_GRAM_LENGTH);
+        List<Set<Long>> postingLists = new ArrayList<>();
+        for (String gram : extractGrams(query, gramLength, gramLength)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            postingLists.add(posting);
+        }
+        if (postingLists.isEmpty()) {
+            return Set.of();
+        }
+
+        postingLists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+        return candidates;
+    }
+
+    private void addPostings(Map<String, Set<Long>> target, IndexedCampaign document) {
+        for (String gram : document.grams()) {
+            target.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id());
+        }
+    }
+
+    private void removePostings(IndexedCampaign document) {
+        for (String gram : document.grams()) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(document.id());
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private IndexedCampaign toDocument(Object[] row) {
+        Long id = (Long) row[0];
+        String title = normalize((String) row[1]);
+        String productShortInfo = normalize((String) row[2]);
+        String[] keywordArray = (String[]) row[5];
+        String missionKeywords = keywordArray != null ? normalize(String.join(" ", keywordArray)) : "";
+
+        Set<String> grams = new HashSet<>();
+        grams.addAll(extractGrams(title, 1, MAX_GRAM_LENGTH));
+        grams.addAll(extractGrams(productShortInfo, 1, MAX_GRAM_LENGTH));
+        grams.addAll(extractGrams(missionKeywords, 1, MAX_GRAM_LENGTH));
+
+        return new IndexedCampaign(id, title, productShortInfo, missionKeywords,
+                (ZonedDateTime) row[3], (Campaign.RecruitmentStatus) row[4], Set.copyOf(grams));
+    }
+
+    /**
+     * 텍스트의 minLength~maxLength 글자 n-gram 목록 (공백만으로 된 n-gram 제외)
+     */
+    private static Set<String> extractGrams(String text, int minLength, int maxLength) {
+        Set<String> grams = new HashSet<>();
+        for (int length = minLength; length <= maxLength; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                String gram = text.substring(i, i + length);
+                if (!gram.isBlank()) {
+                    grams.add(gram);
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 대소문자를 구분하지 않고 연속 공백을 하나로 합칩니다.
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 관련도 검색 결과 - 요청 구간의 캠페인 ID(관련도순)와 전체 대상 건수
+     */
+    public record RankedResult(List<Long> campaignIds, int totalMatches) {
+    }
+
+    private record ScoredCampaign(IndexedCampaign document, double score) {
+    }
+
+    /**
+     * 색인된 캠페인 (검색 대상 텍스트와 정렬 키)
+     */
+    private record IndexedCampaign(Long id, String title, String productShortInfo, String missionKeywords,
+                                   ZonedDateTime createdAt, Campaign.RecruitmentStatus recruitmentStatus,
+                                   Set<String> grams) {
+
+        /**
+         * 부분 문자열 검색 대상 (제목, 제품 간단 정보)
+         */
+        boolean contains(String query) {
+            return title.contains(query) || productShortInfo.contains(query);
+        }
+
+        /**
+         * BM25F 필드 (FIELD_WEIGHTS 순서)
+         */
+        String[] fields() {
+            return new String[]{title, productShortInfo, missionKeywords};
+        }
+
+        /**
+         * 모집 중 우선 정렬 키 (저장된 모집 상태의 순서값, 목록 조회와 동일)
+         */
+        int recruitmentBucket() {
+            return recruitmentStatus != null ? recruitmentStatus.ordinal() : Campaign.RecruitmentStatus.RECRUITING.ordinal();
+        }
+
+        IndexedCampaign withRecruitmentStatus(Campaign.RecruitmentStatus status) {
+            return new IndexedCampaign(id, title, productShortInfo, missionKeywords, createdAt, status, grams);
+        }
+    }
+}
@@ -1,26 +1,34 @@
 package com.example.auth.service;
 
+import com.example.auth.constant.CampaignSortType;
+import com.example.auth.constant.CountMode;
 import com.example.auth.domain.Campaign;
 import com.example.auth.domain.CampaignCategory;
 import com.example.auth.dto.campaign.CampaignListSimpleResponse;
 import com.example.auth.dto.campaign.*;
 import com.example.auth.dto.campaign.view.*;
+import com.example.auth.dto.common.CursorPageResponse;
 import com.example.auth.dto.common.PageResponse;
 import com.example.auth.exception.ResourceNotFoundException;
 import com.example.auth.repository.CampaignRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,7 +36,16 @@ import java.util.Map;
 public class CampaignViewService {
 
     private final CampaignRepository campaignRepository;
+    private final CampaignListCacheService listCacheService;
+    private final CampaignDetailSnapshotService detailSnapshotService;
+    private final HomeFeedService homeFeedService;
+    private final CampaignSearchIndexService searchIndexService;
+    private final VisitLocationGeoIndexService geoIndexService;
+    private final VisitLocationClusterService clusterService;
+    private final CampaignFacetService facetService;
     private static final Campaign.ApprovalStatus APPROVED_STATUS = Campaign.ApprovalStatus.APPROVED;
+    private static final String RELEVANCE_SORT = "relevance";  // 검색 전용 관련도순 정렬
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;  // 검색 한 페이지의 최대 캠페인 수
 
     /**
      * String categoryType을 CategoryType enum으로 변환
@@ -46,120 +63,60 @@ public class CampaignViewService {
     }
 
     /**
-     * 캠페인 목록 조회 (페이징 처리) - 간소화된 응답
+     * 조건에 맞는 캠페인 목록 조회 (페이징 처리) - 간소화된 응답
+     * 필터/정렬 조합과 무관하게 하나의 동적 쿼리로 조회하며, 모집 중인 캠페인이 항상 먼저 정렬됩니다.
+     * 프로젝션 조회라 트랜잭션 없이 동작하며, 캐시 적중 시 DB 커넥션을 사용하지 않습니다.
+     * @param countMode 근사 모드면 COUNT 쿼리 대신 캐시된 필터별 집계로 전체 건수를 추정합니다.
      */
-    @Transactional(readOnly = true)
-    public PageResponse<CampaignListSimpleResponse> getCampaignList(int page, int size, String sort, boolean onlyActive,
-                                                                    String categoryType, String campaignType) {
-        // 정렬 기준에 따라 페이지 정보 생성
-        Pageable pageable;
-        boolean sortByCurrentApplicants = "currentApplicants".equals(sort);
-
-        if (sortByCurrentApplicants) {
-            // currentApplicants로 정렬하는 경우 쿼리에서 ORDER BY를 처리하므로 Pageable에는 정렬 없이 생성
-            pageable = PageRequest.of(page, size);
-        } else {
-            // 기본 정렬 처리
-            pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sort != null ? sort : "createdAt"));
-        }
-
-        Page<Campaign> campaignPage;
-
-        if (sortByCurrentApplicants) {
-            // 신청 인원수 기준 정렬 (신청 많은 순)
-            campaignPage = getCampaignPageSortedByCurrentApplicants(categoryType, campaignType, onlyActive, pageable);
-        } else {
-            // 기존 정렬 방식
-            campaignPage = getCampaignPageWithStandardSort(categoryType, campaignType, onlyActive, pageable);
-        }
-
-        // 엔티티를 간소화된 DTO로 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(campaign -> {
-            CampaignListSimpleResponse response = CampaignListSimpleResponse.fromEntity(campaign);
-            return response;
-        });
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                    .filter(c -> c.getId().equals(campaignResponse.getId()))
-                    .findFirst()
-                    .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
+    public PageResponse<CampaignListSimpleResponse> getCampaignList(CampaignFilterCondition condition, int page, int size,
+                                                                    CountMode countMode) {
+        // 필터 없는 첫 페이지는 미리 계산된 홈 피드 스냅샷에서 응답
+        Optional<PageResponse<CampaignListSimpleResponse>> homeFeedPage = homeFeedService.findFirstPage(condition, page, size);
+        if (homeFeedPage.isPresent()) {
+            return homeFeedPage.get();
+        }
+
+        return listCacheService.get(condition, "page:" + page + ":" + size + ":" + countMode.getValue(), () -> {
+            Pageable pageable = PageRequest.of(page, size);
+            if (countMode == CountMode.APPROXIMATE) {
+                return findCampaignPageWithEstimatedTotal(condition, pageable);
+            }
+            Page<CampaignListProjection> campaignPage = campaignRepository.findCampaignPage(condition, pageable);
 
-        return PageResponse.from(responsePage);
+            // DTO 변환
+            return PageResponse.from(toSimpleResponsePage(campaignPage));
+        }, this::campaignIdsOf);
     }
 
     /**
-     * 마감 임박순 캠페인 목록 조회 (페이징 처리) - 활성 캠페인만
+     * COUNT 쿼리 없이 목록만 조회하고 전체 건수는 캐시된 필터별 집계로 채웁니다.
+     * 요청 크기보다 적게 조회되면 마지막 페이지이므로 전체 건수를 정확히 알 수 있어 집계를 사용하지 않습니다.
+     * 추정값은 현재까지 조회된 건수보다 작아지지 않도록 보정합니다.
      */
-    @Transactional(readOnly = true)
-    public PageResponse<CampaignListSimpleResponse> getCampaignListByDeadlineSoon(int page, int size,
-                                                                                  String categoryType, String campaignType) {
-        // 마감일 오름차순 정렬 (마감 가까운 순)
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "applicationDeadlineDate"));
-
-        // 모든 활성 캠페인 조회 (마감되지 않은 캠페인만)
-        Page<Campaign> campaignPage;
-
-        if (categoryType != null && !categoryType.isEmpty()) {
-            CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-            if (categoryTypeEnum != null) {
-                campaignPage = campaignRepository.findByCategoryCategoryType(categoryTypeEnum, pageable);
-            } else {
-                campaignPage = campaignRepository.findAll(pageable);
-            }
-        } else if (campaignType != null && !campaignType.isEmpty()) {
-            campaignPage = campaignRepository.findByCampaignType(campaignType, pageable);
-        } else {
-            campaignPage = campaignRepository.findAll(pageable);
-        }
-
-        // 엔티티를 간소화된 DTO로 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(campaign -> {
-            CampaignListSimpleResponse response = CampaignListSimpleResponse.fromEntity(campaign);
-            return response;
-        });
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                    .filter(c -> c.getId().equals(campaignResponse.getId()))
-                    .findFirst()
-                    .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
-
-        return PageResponse.from(responsePage);
+    private PageResponse<CampaignListSimpleResponse> findCampaignPageWithEstimatedTotal(CampaignFilterCondition condition,
+                                                                                        Pageable pageable) {
+        List<CampaignListProjection> content =
+                campaignRepository.findCampaignSlice(condition, null, (int) pageable.getOffset(), pageable.getPageSize());
+        long fetched = pageable.getOffset() + content.size();
+
+        boolean lastPageReached = content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty());
+        OptionalLong estimate = lastPageReached ? OptionalLong.empty() : facetService.countMatching(condition);
+        if (!lastPageReached && estimate.isEmpty()) {
+            // 집계로 추정할 수 없는 조건은 정확한 건수로 조회
+            return PageResponse.from(toSimpleResponsePage(campaignRepository.findCampaignPage(condition, pageable)));
+        }
+
+        long total = lastPageReached ? fetched : Math.max(estimate.getAsLong(), fetched);
+        Page<CampaignListProjection> campaignPage = new PageImpl<>(content, pageable, total);
+        return PageResponse.from(toSimpleResponsePage(campaignPage), lastPageReached);
     }
 
     /**
-     * 세분화된 필터 조건으로 캠페인 목록 조회
+     * 요청 파라미터로 캠페인 목록 조회 조건을 생성합니다.
+     * @param campaignTypes 쉼표로 구분된 캠페인 타입 (단일 값도 허용)
      */
-    @Transactional(readOnly = true)
-    public PageResponse<CampaignListSimpleResponse> getFilteredCampaignList(
-            int page, int size, String categoryType, String categoryName,
-            String campaignTypes, String sort) {
-
-        // 정렬 기준 변환
-        String actualSort = convertSortParameter(sort);
-        boolean sortByCurrentApplicants = "currentApplicants".equals(actualSort);
-        boolean sortByDeadline = "applicationDeadlineDate".equals(actualSort);
-
-        // 캠페인 타입 파싱 (쉼표로 구분된 문자열을 List로 변환)
+    public CampaignFilterCondition buildFilterCondition(String categoryType, String categoryName, String campaignTypes,
+                                                        CampaignSortType sortType) {
         List<String> campaignTypeList = null;
         if (campaignTypes != null && !campaignTypes.trim().isEmpty()) {
             campaignTypeList = Arrays.stream(campaignTypes.split(","))
@@ -168,448 +125,317 @@ public class CampaignViewService {
                     .toList();
         }
 
-        // 페이지 정보 생성
-        Pageable pageable;
-        if (sortByCurrentApplicants) {
-            pageable = PageRequest.of(page, size);
-        } else if (sortByDeadline) {
-            pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "applicationDeadlineDate"));
-        } else {
-            pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        }
-
-        Page<Campaign> campaignPage;
-
-        if (sortByCurrentApplicants) {
-            // 인기순 정렬
-            campaignPage = getFilteredCampaignPageByPopularity(categoryType, categoryName, campaignTypeList, pageable);
-        } else {
-            // 일반 정렬
-            campaignPage = getFilteredCampaignPageByStandardSort(categoryType, categoryName, campaignTypeList, pageable);
-        }
-
-        // DTO 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(CampaignListSimpleResponse::fromEntity);
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                    .filter(c -> c.getId().equals(campaignResponse.getId()))
-                    .findFirst()
-                    .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
-
-        return PageResponse.from(responsePage);
+        return CampaignFilterCondition.builder()
+                .categoryType(convertCategoryType(categoryType))
+                .categoryName(categoryName)
+                .campaignTypes(campaignTypeList)
+                .sortType(sortType)
+                .build();
     }
 
-    /**
-     * 카테고리명 포함하여 캠페인 목록 조회 (페이징 처리) - 간소화된 응답
-     */
-    @Transactional(readOnly = true)
-    public PageResponse<CampaignListSimpleResponse> getCampaignListWithFilters(int page, int size, String sort, boolean onlyActive,
-                                                                    String categoryType, String categoryName, String campaignType) {
-        // 정렬 기준에 따라 페이지 정보 생성
-        Pageable pageable;
-        boolean sortByCurrentApplicants = "currentApplicants".equals(sort);
-
-        if (sortByCurrentApplicants) {
-            // currentApplicants로 정렬하는 경우 쿼리에서 ORDER BY를 처리하므로 Pageable에는 정렬 없이 생성
-            pageable = PageRequest.of(page, size);
-        } else {
-            // 기본 정렬 처리
-            pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sort != null ? sort : "createdAt"));
-        }
-
-        Page<Campaign> campaignPage;
-
-        if (sortByCurrentApplicants) {
-            // 신청 인원수 기준 정렬 (신청 많은 순)
-            campaignPage = getCampaignPageSortedByCurrentApplicantsWithFilters(categoryType, categoryName, campaignType, onlyActive, pageable);
-        } else {
-            // 기존 정렬 방식
-            campaignPage = getCampaignPageWithStandardSortWithFilters(categoryType, categoryName, campaignType, onlyActive, pageable);
-        }
-
-        // 엔티티를 간소화된 DTO로 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(campaign -> {
-            CampaignListSimpleResponse response = CampaignListSimpleResponse.fromEntity(campaign);
-            return response;
-        });
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                    .filter(c -> c.getId().equals(campaignResponse.getId()))
-                    .findFirst()
-                    .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
-
-        return PageResponse.from(responsePage);
-    }
+    // ===== 커서(키셋) 페이지네이션 / COUNT 없는 조회 =====
 
     /**
-     * 카테고리명 포함하여 마감 임박순 캠페인 목록 조회 (페이징 처리) - 활성 캠페인만
+     * 커서 기반으로 캠페인 목록 조회
+     * OFFSET과 COUNT 쿼리 없이 이전 페이지 마지막 캠페인의 정렬 키로 다음 페이지를 seek 합니다.
+     * @param cursor 이전 응답의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @throws IllegalArgumentException 커서가 올바르지 않거나 다른 정렬 기준으로 발급된 경우
      */
-    @Transactional(readOnly = true)
-    public PageResponse<CampaignListSimpleResponse> getCampaignListByDeadlineSoonWithFilters(int page, int size,
-                                                                                  String categoryType, String categoryName, String campaignType) {
-        // 마감일 오름차순 정렬 (마감 가까운 순)
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "applicationDeadlineDate"));
-
-        Page<Campaign> campaignPage;
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-
-        // 카테고리 타입과 카테고리명 모두 있는 경우
-        if (categoryTypeEnum != null && categoryName != null && !categoryName.isEmpty()) {
-            campaignPage = campaignRepository.findByCategoryCategoryTypeAndCategoryCategoryName(
-                    categoryTypeEnum, categoryName, pageable);
-        }
-        // 카테고리 타입만 있는 경우
-        else if (categoryTypeEnum != null) {
-            campaignPage = campaignRepository.findByCategoryCategoryType(categoryTypeEnum, pageable);
-        }
-        // 캠페인 타입만 있는 경우
-        else if (campaignType != null && !campaignType.isEmpty()) {
-            campaignPage = campaignRepository.findByCampaignType(campaignType, pageable);
-        }
-        // 필터 없이 모든 캠페인
-        else {
-            campaignPage = campaignRepository.findAll(pageable);
-        }
-
-        // 엔티티를 간소화된 DTO로 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(campaign -> {
-            CampaignListSimpleResponse response = CampaignListSimpleResponse.fromEntity(campaign);
-            return response;
-        });
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                    .filter(c -> c.getId().equals(campaignResponse.getId()))
-                    .findFirst()
-                    .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
+    public CursorPageResponse<CampaignListSimpleResponse> getCampaignListByCursor(CampaignFilterCondition condition,
+                                                                                  String cursor, int size) {
+        int pageSize = Math.max(1, size);
+        CampaignCursor decodedCursor = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            decodedCursor = CampaignCursor.decode(cursor);
+            if (!decodedCursor.matches(condition)) {
+                throw new IllegalArgumentException("요청한 정렬 기준과 커서가 일치하지 않습니다.");
+            }
         }
 
-        return PageResponse.from(responsePage);
+        CampaignCursor seekCursor = decodedCursor;
+        String pageKey = "cursor:" + (seekCursor != null ? cursor : "") + ":" + pageSize;
+        return listCacheService.get(condition, pageKey,
+                () -> loadCampaignListByCursor(condition, seekCursor, pageSize),
+                response -> response.getContent().stream().map(CampaignListSimpleResponse::getId).toList());
     }
 
-    /**
-     * 정렬 파라미터 변환
-     */
-    private String convertSortParameter(String sort) {
-        return switch (sort) {
-            case "popular" -> "currentApplicants";
-            case "deadline" -> "applicationDeadlineDate";
-            case "latest" -> "createdAt";
-            default -> "createdAt";
-        };
+    private CursorPageResponse<CampaignListSimpleResponse> loadCampaignListByCursor(CampaignFilterCondition condition,
+                                                                                    CampaignCursor decodedCursor, int pageSize) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<CampaignListProjection> campaigns = campaignRepository.findCampaignSlice(condition, decodedCursor, 0, pageSize + 1);
+        boolean hasNext = campaigns.size() > pageSize;
+        if (hasNext) {
+            campaigns = campaigns.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext
+                ? CampaignCursor.of(campaigns.get(campaigns.size() - 1), condition).encode()
+                : null;
+
+        return CursorPageResponse.<CampaignListSimpleResponse>builder()
+                .content(toSimpleResponses(campaigns))
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     /**
-     * 인기순 정렬을 위한 필터링된 캠페인 조회
+     * 페이지 번호 기반으로 캠페인 목록만 조회 (COUNT 쿼리 없음)
+     * 페이징 정보가 필요 없는 요청(includePaging=false)에서 사용합니다.
      */
-    private Page<Campaign> getFilteredCampaignPageByPopularity(String categoryType, String categoryName,
-                                                               List<String> campaignTypes, Pageable pageable) {
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-
-        if (categoryTypeEnum == null) {
-            // categoryType이 유효하지 않은 경우 모든 캠페인을 인기순으로 반환
-            return campaignRepository.findAllOrderByCurrentApplicantsDesc(pageable);
-        }
-
-        if (categoryName != null && campaignTypes != null && !campaignTypes.isEmpty()) {
-            // 카테고리명과 플랫폼 타입 모두 필터링 + 인기순
-            return campaignRepository.findByCategoryCategoryTypeAndCategoryCategoryNameAndCampaignTypeInOrderByCurrentApplicantsDesc(
-                    categoryTypeEnum, categoryName, campaignTypes, pageable);
-        } else if (categoryName != null) {
-            // 카테고리명만 필터링 + 인기순
-            return campaignRepository.findByCategoryCategoryTypeAndCategoryCategoryNameOrderByCurrentApplicantsDesc(
-                    categoryTypeEnum, categoryName, pageable);
-        } else if (campaignTypes != null && !campaignTypes.isEmpty()) {
-            // 플랫폼 타입만 필터링 + 인기순
-            return campaignRepository.findByCategoryCategoryTypeAndCampaignTypeInOrderByCurrentApplicantsDesc(
-                    categoryTypeEnum, campaignTypes, pageable);
-        } else {
-            // 카테고리 타입만 필터링 + 인기순
-            return campaignRepository.findByCategoryCategoryTypeOrderByCurrentApplicantsDesc(
-                    categoryTypeEnum, pageable);
-        }
+    public List<CampaignListSimpleResponse> getCampaignListWithoutCount(CampaignFilterCondition condition, int page, int size) {
+        int pageSize = Math.max(1, size);
+        Optional<List<CampaignListSimpleResponse>> homeFeedItems = homeFeedService.findFirstPageItems(condition, page, pageSize);
+        if (homeFeedItems.isPresent()) {
+            return homeFeedItems.get();
+        }
+
+        return listCacheService.get(condition, "slice:" + page + ":" + pageSize, () -> {
+            List<CampaignListProjection> campaigns =
+                    campaignRepository.findCampaignSlice(condition, null, page * pageSize, pageSize);
+            return toSimpleResponses(campaigns);
+        }, campaigns -> campaigns.stream().map(CampaignListSimpleResponse::getId).toList());
     }
 
     /**
-     * 일반 정렬을 위한 필터링된 캠페인 조회
+     * 홈 피드 스냅샷 생성용 조회
+     * 스냅샷과 목록 캐시를 거치지 않고 DB에서 상위 캠페인과 전체 건수를 조회합니다.
      */
-    private Page<Campaign> getFilteredCampaignPageByStandardSort(String categoryType, String categoryName,
-                                                                 List<String> campaignTypes, Pageable pageable) {
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-
-        if (categoryTypeEnum == null) {
-            // categoryType이 유효하지 않은 경우 모든 캠페인 반환
-            return campaignRepository.findAll(pageable);
-        }
+    public HomeFeedSnapshot buildHomeFeedSnapshot(CampaignFilterCondition condition, int feedSize) {
+        Page<CampaignListProjection> campaignPage =
+                campaignRepository.findCampaignPage(condition, PageRequest.of(0, feedSize));
+        Page<CampaignListSimpleResponse> responsePage = toSimpleResponsePage(campaignPage);
+
+        return HomeFeedSnapshot.builder()
+                .campaigns(responsePage.getContent())
+                .totalElements(responsePage.getTotalElements())
+                .baseDate(condition.getCurrentDate())
+                .generatedAt(ZonedDateTime.now())
+                .build();
+    }
 
-        if (categoryName != null && campaignTypes != null && !campaignTypes.isEmpty()) {
-            // 카테고리명과 플랫폼 타입 모두 필터링
-            return campaignRepository.findByCategoryCategoryTypeAndCategoryCategoryNameAndCampaignTypeIn(
-                    categoryTypeEnum, categoryName, campaignTypes, pageable);
-        } else if (categoryName != null) {
-            // 카테고리명만 필터링
-            return campaignRepository.findByCategoryCategoryTypeAndCategoryCategoryName(
-                    categoryTypeEnum, categoryName, pageable);
-        } else if (campaignTypes != null && !campaignTypes.isEmpty()) {
-            // 플랫폼 타입만 필터링
-            return campaignRepository.findByCategoryCategoryTypeAndCampaignTypeIn(
-                    categoryTypeEnum, campaignTypes, pageable);
-        } else {
-            // 카테고리 타입만 필터링
-            return campaignRepository.findByCategoryCategoryType(
-                    categoryTypeEnum, pageable);
-        }
+    private List<Long> campaignIdsOf(PageResponse<CampaignListSimpleResponse> pageResponse) {
+        return pageResponse.getContent().stream()
+                .map(CampaignListSimpleResponse::getId)
+                .toList();
     }
 
     /**
-     * 모든 캠페인을 모집상태 + 인기순으로 정렬 (승인 상태 무관)
+     * 목록 필터 칩별 캠페인 수 조회 (다른 필터 선택 상태 반영)
      */
-    private Page<Campaign> getCampaignPageSortedByCurrentApplicants(String categoryType, String campaignType,
-                                                                    boolean onlyActive, Pageable pageable) {
-        LocalDate currentDate = LocalDate.now();
-        
-        if (categoryType != null && !categoryType.isEmpty()) {
-            CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-            if (categoryTypeEnum != null) {
-                return campaignRepository.findByCategoryCategoryTypeOrderByRecruitmentStatusAndPopularity(
-                        categoryTypeEnum, currentDate, pageable);
-            }
-        } else if (campaignType != null && !campaignType.isEmpty()) {
-            // 캠페인 타입별 조회는 기존 메소드 사용 (필요시 추가 구현)
-            return campaignRepository.findByCampaignTypeOrderByCurrentApplicantsDesc(campaignType, pageable);
-        }
-        // 모든 캠페인 조회 (모집상태 + 인기순)
-        return campaignRepository.findAllOrderByRecruitmentStatusAndPopularity(currentDate, pageable);
+    public CampaignFacetResponse getListFacets(CampaignFilterCondition condition) {
+        return facetService.getFacets(condition);
     }
 
     /**
-     * 모든 캠페인을 모집상태 + 최신순으로 정렬 (승인 상태 무관)
+     * 목록 캐시 적중/실패 통계 조회
      */
-    private Page<Campaign> getCampaignPageWithStandardSort(String categoryType, String campaignType,
-                                                           boolean onlyActive, Pageable pageable) {
-        LocalDate currentDate = LocalDate.now();
-        
-        if (categoryType != null && !categoryType.isEmpty()) {
-            CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-            if (categoryTypeEnum != null) {
-                return campaignRepository.findByCategoryCategoryTypeOrderByRecruitmentStatusAndLatest(
-                        categoryTypeEnum, currentDate, pageable);
-            }
-        } else if (campaignType != null && !campaignType.isEmpty()) {
-            // 캠페인 타입별 조회는 기존 메소드 사용 (필요시 추가 구현)
-            return campaignRepository.findByCampaignType(campaignType, pageable);
-        }
-        // 모든 캠페인 조회 (모집상태 + 최신순)
-        return campaignRepository.findAllOrderByRecruitmentStatusAndLatest(currentDate, pageable);
+    public Map<String, Object> getListCacheStats() {
+        return listCacheService.getStats();
     }
 
     /**
-     * 카테고리명 포함하여 모집상태 + 인기순으로 정렬된 캠페인 페이지 조회
+     * 캠페인 목록 프로젝션을 목록 DTO로 변환합니다.
      */
-    private Page<Campaign> getCampaignPageSortedByCurrentApplicantsWithFilters(String categoryType, String categoryName, String campaignType,
-                                                                    boolean onlyActive, Pageable pageable) {
-        LocalDate currentDate = LocalDate.now();
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-        
-        // 카테고리 타입과 카테고리명 모두 있는 경우
-        if (categoryTypeEnum != null && categoryName != null && !categoryName.isEmpty()) {
-            return campaignRepository.findByCategoryCategoryTypeAndCategoryCategoryNameOrderByCurrentApplicantsDesc(
-                    categoryTypeEnum, categoryName, pageable);
-        }
-        // 카테고리 타입만 있는 경우
-        else if (categoryTypeEnum != null) {
-            return campaignRepository.findByCategoryCategoryTypeOrderByRecruitmentStatusAndPopularity(
-                    categoryTypeEnum, currentDate, pageable);
-        }
-        // 캠페인 타입만 있는 경우
-        else if (campaignType != null && !campaignType.isEmpty()) {
-            return campaignRepository.findByCampaignTypeOrderByCurrentApplicantsDesc(campaignType, pageable);
-        }
-        // 필터 없이 모든 캠페인
-        else {
-            return campaignRepository.findAllOrderByRecruitmentStatusAndPopularity(currentDate, pageable);
-        }
+    private List<CampaignListSimpleResponse> toSimpleResponses(List<CampaignListProjection> campaigns) {
+        return campaigns.stream()
+                .map(CampaignListSimpleResponse::fromProjection)
+                .toList();
     }
 
     /**
-     * 카테고리명 포함하여 모집상태 + 최신순으로 정렬된 캠페인 페이지 조회
+     * 캠페인 페이지를 목록 DTO 페이지로 변환합니다.
+     * 신청 인원수는 프로젝션에 포함된 비정규화 카운터를 사용하므로 추가 쿼리가 없습니다.
      */
-    private Page<Campaign> getCampaignPageWithStandardSortWithFilters(String categoryType, String categoryName, String campaignType,
-                                                           boolean onlyActive, Pageable pageable) {
-        LocalDate currentDate = LocalDate.now();
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-        
-        // 카테고리 타입과 카테고리명 모두 있는 경우
-        if (categoryTypeEnum != null && categoryName != null && !categoryName.isEmpty()) {
-            return campaignRepository.findByCategoryCategoryTypeAndCategoryCategoryName(
-                    categoryTypeEnum, categoryName, pageable);
-        }
-        // 카테고리 타입만 있는 경우
-        else if (categoryTypeEnum != null) {
-            return campaignRepository.findByCategoryCategoryTypeOrderByRecruitmentStatusAndLatest(
-                    categoryTypeEnum, currentDate, pageable);
-        }
-        // 캠페인 타입만 있는 경우
-        else if (campaignType != null && !campaignType.isEmpty()) {
-            return campaignRepository.findByCampaignType(campaignType, pageable);
-        }
-        // 필터 없이 모든 캠페인
-        else {
-            return campaignRepository.findAllOrderByRecruitmentStatusAndLatest(currentDate, pageable);
-        }
+    private Page<CampaignListSimpleResponse> toSimpleResponsePage(Page<CampaignListProjection> campaignPage) {
+        return campaignPage.map(CampaignListSimpleResponse::fromProjection);
     }
 
     // ===== 캠페인 상세 조회 메서드들 =====
+    // 개별 상세 응답(썸네일, 기본 정보 등)은 이 스냅샷에서 구성합니다.
 
     /**
-     * 캠페인 썸네일 조회 (모든 캠페인)
+     * 캠페인 상세 통합 조회 (모든 캠페인)
      */
-    @Transactional(readOnly = true)
-    public CampaignThumbnailResponse getCampaignThumbnail(Long campaignId) {
-        Campaign campaign = findCampaignById(campaignId);
-        return CampaignThumbnailResponse.fromEntity(campaign);
+    public CampaignDetailSnapshot getCampaignDetail(Long campaignId) {
+        return detailSnapshotService.getSnapshot(campaignId);
     }
 
     /**
-     * 캠페인 기본 정보 조회 (모든 캠페인)
+     * ID로 승인된 캠페인 조회 (기존 메서드 유지)
      */
-    @Transactional(readOnly = true)
-    public CampaignBasicInfoResponse getCampaignBasicInfo(Long campaignId) {
-        Campaign campaign = findCampaignById(campaignId);
-        return CampaignBasicInfoResponse.fromEntity(campaign);
+    private Campaign findApprovedCampaignById(Long campaignId) {
+        return campaignRepository.findByIdAndApprovalStatus(campaignId, APPROVED_STATUS)
+                .orElseThrow(() -> new ResourceNotFoundException("승인된 캠페인을 찾을 수 없습니다."));
     }
 
     /**
-     * 캠페인 상세 정보 조회 (모든 캠페인)
+     * 키워드로 캠페인 검색 (기본: 모집상태 + 최신순, sort=relevance: 관련도순)
+     * 검색 색인이 준비되어 있으면 색인으로 대상 ID와 순서를 정하고 해당 페이지의 캠페인만 조회하며,
+     * 준비 전에는 DB의 제목 LIKE 검색으로 처리합니다.
      */
-    @Transactional(readOnly = true)
-    public CampaignDetailInfoResponse getCampaignDetailInfo(Long campaignId) {
-        Campaign campaign = findCampaignById(campaignId);
-        return CampaignDetailInfoResponse.fromEntity(campaign);
-    }
+    public PageResponse<CampaignListSimpleResponse> searchCampaigns(
+            String keyword, int page, int size, String sort) {
+        
+        log.info("캠페인 검색 실행 - keyword: {}, page: {}, size: {}", keyword, page, size);
 
-    /**
-     * 캠페인 미션 가이드 조회 (모든 캠페인)
-     */
-    @Transactional(readOnly = true)
-    public CampaignMissionGuideResponse getCampaignMissionGuide(Long campaignId) {
-        Campaign campaign = findCampaignById(campaignId);
-        return CampaignMissionGuideResponse.fromEntity(campaign);
-    }
+        page = Math.max(0, page);
+        size = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        // 관련도순 - 색인의 BM25F 점수로 요청 페이지의 캠페인만 선택
+        if (RELEVANCE_SORT.equalsIgnoreCase(sort)) {
+            Optional<CampaignSearchIndexService.RankedResult> ranked =
+                    searchIndexService.searchByRelevance(keyword, (long) page * size, size);
+            if (ranked.isPresent()) {
+                List<CampaignListSimpleResponse> content = findCampaignsInOrder(ranked.get().campaignIds());
+                log.info("관련도 검색 결과 - 총 {}개 캠페인 발견, 현재 페이지 {}개", ranked.get().totalMatches(), content.size());
+                return PageResponse.from(new PageImpl<>(content, PageRequest.of(page, size), ranked.get().totalMatches()));
+            }
+            // 색인 준비 전에는 아래 최신순 검색으로 처리
+        }
 
-    /**
-     * 캠페인 미션 키워드 조회 (모든 캠페인)
-     */
-    @Transactional(readOnly = true)
-    public CampaignKeywordsResponse getCampaignKeywords(Long campaignId) {
-        Campaign campaign = findCampaignById(campaignId);
-        return CampaignKeywordsResponse.fromEntity(campaign);
+        Optional<List<Long>> indexedIds = searchIndexService.search(keyword);
+        if (indexedIds.isPresent()) {
+            return searchCampaignsByIndex(indexedIds.get(), page, size);
+        }
+        
+        // 모집상태 + 최신순으로 고정
+        CampaignFilterCondition condition = CampaignFilterCondition.builder()
+                .keyword(keyword)
+                .sortType(CampaignSortType.LATEST)
+                .build();
+        Page<CampaignListProjection> campaignPage = campaignRepository.findCampaignPage(condition, PageRequest.of(page, size));
+
+        log.info("검색 결과 - 총 {}개 캠페인 발견, 현재 페이지 {}개", 
+                campaignPage.getTotalElements(), campaignPage.getNumberOfElements());
+
+        // DTO 변환
+        Page<CampaignListSimpleResponse> responsePage = toSimpleResponsePage(campaignPage);
+
+        log.info("최종 응답 준비 완료 - {}개 캠페인", responsePage.getNumberOfElements());
+        return PageResponse.from(responsePage);
     }
 
     /**
-     * ID로 캠페인 조회 (승인 상태 무관)
+     * 여러 캠페인을 ID로 일괄 조회 (최근 본 캠페인, 북마크 목록 등)
+     * 한 번의 IN 조회로 처리하며, 요청한 ID 순서를 유지합니다.
+     * @param campaignIds 조회할 캠페인 ID 목록 (중복은 첫 번째 위치만 사용)
      */
-    private Campaign findCampaignById(Long campaignId) {
-        return campaignRepository.findById(campaignId)
-                .orElseThrow(() -> new ResourceNotFoundException("캠페인을 찾을 수 없습니다."));
+    public CampaignBatchResponse getCampaignsByIds(List<Long> campaignIds) {
+        List<Long> distinctIds = campaignIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        List<CampaignListSimpleResponse> campaigns = findCampaignsInOrder(distinctIds);
+
+        Set<Long> foundIds = campaigns.stream()
+                .map(CampaignListSimpleResponse::getId)
+                .collect(Collectors.toSet());
+        List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .toList();
+
+        return CampaignBatchResponse.builder()
+                .campaigns(campaigns)
+                .missingIds(missingIds)
+                .build();
     }
 
     /**
-     * ID로 승인된 캠페인 조회 (기존 메서드 유지)
+     * 주변 방문형 캠페인 조회 - 공간 색인에서 반경 내 캠페인을 거리순으로 찾은 뒤 요청 페이지만 조회합니다.
+     * @param radiusMeters 검색 반경 (미터)
+     * @return 색인이 아직 구성되지 않았으면 empty
      */
-    private Campaign findApprovedCampaignById(Long campaignId) {
-        return campaignRepository.findByIdAndApprovalStatus(campaignId, APPROVED_STATUS)
-                .orElseThrow(() -> new ResourceNotFoundException("승인된 캠페인을 찾을 수 없습니다."));
+    public Optional<PageResponse<NearbyCampaignResponse>> getNearbyVisitCampaigns(double latitude, double longitude,
+                                                                                   double radiusMeters, int page, int size) {
+        if (!geoIndexService.isReady()) {
+            return Optional.empty();
+        }
+
+        List<VisitLocationGeoIndexService.NearbyCampaign> nearby =
+                geoIndexService.findNearby(latitude, longitude, radiusMeters);
+        Pageable pageable = PageRequest.of(page, size);
+        int fromIndex = (int) Math.min(pageable.getOffset(), nearby.size());
+        int toIndex = Math.min(fromIndex + size, nearby.size());
+        List<VisitLocationGeoIndexService.NearbyCampaign> pageItems = nearby.subList(fromIndex, toIndex);
+
+        Map<Long, CampaignListSimpleResponse> campaignsById = findCampaignsInOrder(
+                pageItems.stream().map(VisitLocationGeoIndexService.NearbyCampaign::campaignId).toList())
+                .stream()
+                .collect(Collectors.toMap(CampaignListSimpleResponse::getId, Function.identity()));
+
+        // 색인 갱신 전에 삭제되는 등 조회되지 않은 캠페인은 제외 (승인 상태는 목록 조회와 동일하게 구분하지 않음)
+        List<NearbyCampaignResponse> content = pageItems.stream()
+                .filter(item -> campaignsById.containsKey(item.campaignId()))
+                .map(item -> NearbyCampaignResponse.builder()
+                        .campaign(campaignsById.get(item.campaignId()))
+                        .distanceMeters((int) Math.round(item.distanceMeters()))
+                        .address(item.address())
+                        .build())
+                .toList();
+        log.info("주변 캠페인 조회 - 반경 {}m 내 {}개 캠페인, 현재 페이지 {}개", (long) radiusMeters, nearby.size(), content.size());
+
+        return Optional.of(PageResponse.from(new PageImpl<>(content, pageable, nearby.size())));
     }
 
     /**
-     * 디버그용: 모든 캠페인 조회 (승인 상태 무관)
+     * 지도 화면 영역의 방문 위치 마커 클러스터 조회 (줌 레벨별로 미리 집계된 값)
+     * @return 색인이 아직 구성되지 않았으면 empty
      */
-    @Transactional(readOnly = true)
-    public List<Map<String, Object>> getAllCampaignsForDebug() {
-        var campaigns = campaignRepository.findAll();
-        return campaigns.stream()
-                .map(campaign -> {
-                    Map<String, Object> campaignInfo = new java.util.HashMap<>();
-                    campaignInfo.put("id", campaign.getId());
-                    campaignInfo.put("title", campaign.getTitle());
-                    campaignInfo.put("approvalStatus", campaign.getApprovalStatus().name());
-                    campaignInfo.put("applicationDeadlineDate", campaign.getApplicationDeadlineDate());
-                    campaignInfo.put("categoryType", campaign.getCategory() != null ? 
-                        campaign.getCategory().getCategoryType().name() : null);
-                    campaignInfo.put("categoryName", campaign.getCategory() != null ? 
-                        campaign.getCategory().getCategoryName() : null);
-                    campaignInfo.put("createdAt", campaign.getCreatedAt());
-                    return campaignInfo;
-                })
-                .collect(java.util.stream.Collectors.toList());
+    public Optional<List<MapClusterResponse>> getVisitMapClusters(int zoom, double southLatitude, double westLongitude,
+                                                                  double northLatitude, double eastLongitude) {
+        if (!geoIndexService.isReady()) {
+            return Optional.empty();
+        }
+
+        List<MapClusterResponse> clusters = clusterService
+                .findClusters(zoom, southLatitude, westLongitude, northLatitude, eastLongitude)
+                .stream()
+                .map(cluster -> MapClusterResponse.builder()
+                        .latitude(cluster.latitude())
+                        .longitude(cluster.longitude())
+                        .count(cluster.count())
+                        .campaignId(cluster.campaignId())
+                        .build())
+                .toList();
+        return Optional.of(clusters);
     }
 
     /**
-     * 키워드로 캠페인 검색 (모집상태 + 최신순 고정)
+     * 색인 검색 결과(정렬된 ID 목록) 중 요청 페이지에 해당하는 캠페인만 조회합니다.
      */
-    @Transactional(readOnly = true)
-    public PageResponse<CampaignListSimpleResponse> searchCampaigns(
-            String keyword, int page, int size, String sort) {
-        
-        log.info("캠페인 검색 실행 - keyword: {}, page: {}, size: {}", keyword, page, size);
-        
-        // 모집상태 + 최신순으로 고정
+    private PageResponse<CampaignListSimpleResponse> searchCampaignsByIndex(List<Long> matchedIds, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        LocalDate currentDate = LocalDate.now();
-        
-        log.info("모집상태 + 최신순 정렬로 검색 실행");
-        Page<Campaign> campaignPage = campaignRepository.searchByKeywordOrderByRecruitmentStatusAndLatest(
-                keyword, null, null, null, currentDate, pageable);
+        int fromIndex = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int toIndex = Math.min(fromIndex + size, matchedIds.size());
 
-        log.info("검색 결과 - 총 {}개 캠페인 발견, 현재 페이지 {}개", 
-                campaignPage.getTotalElements(), campaignPage.getNumberOfElements());
+        List<CampaignListSimpleResponse> content = findCampaignsInOrder(matchedIds.subList(fromIndex, toIndex));
+        log.info("색인 검색 결과 - 총 {}개 캠페인 발견, 현재 페이지 {}개", matchedIds.size(), content.size());
 
-        // DTO 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(CampaignListSimpleResponse::fromEntity);
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                    .filter(c -> c.getId().equals(campaignResponse.getId()))
-                    .findFirst()
-                    .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
+        return PageResponse.from(new PageImpl<>(content, pageable, matchedIds.size()));
+    }
 
-        log.info("최종 응답 준비 완료 - {}개 캠페인", campaigns.size());
-        return PageResponse.from(responsePage);
+    /**
+     * ID 목록의 캠페인을 조회하여 주어진 ID 순서대로 반환합니다. (조회되지 않은 ID는 제외)
+     */
+    private List<CampaignListSimpleResponse> findCampaignsInOrder(List<Long> campaignIds) {
+        if (campaignIds.isEmpty()) {
+            return List.of();
+        }
+
+        CampaignFilterCondition condition = CampaignFilterCondition.builder()
+                .campaignIds(campaignIds)
+                .build();
+        Map<Long, CampaignListProjection> campaignsById = campaignRepository
+                .findCampaignSlice(condition, null, 0, campaignIds.size())
+                .stream()
+                .collect(Collectors.toMap(CampaignListProjection::getId, Function.identity()));
+
+        List<CampaignListProjection> ordered = campaignIds.stream()
+                .map(campaignsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return toSimpleResponses(ordered);
     }
-}
\ No newline at end of file
+}
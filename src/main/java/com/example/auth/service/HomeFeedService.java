@@ -0,0 +1,171 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.CampaignSortType;
+import com.example.auth.domain.CampaignCategory;
+import com.example.auth.dto.campaign.CampaignFilterCondition;
+import com.example.auth.dto.campaign.CampaignListSimpleResponse;
+import com.example.auth.dto.campaign.HomeFeedSnapshot;
+import com.example.auth.dto.common.PageResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 홈 피드 스냅샷 서비스
+ *
+ * 비로그인 사용자에게 동일하게 보이는 인기순/마감 임박순/최신순 목록의 첫 페이지를
+ * 정렬 기준 x 카테고리 타입 조합별로 미리 계산해 둔 스냅샷에서 응답합니다.
+ * 스냅샷은 {@link com.example.auth.scheduler.HomeFeedScheduler}가 한 서버에서만 생성하여 Redis에 저장하고,
+ * 나머지 서버는 Redis에서 읽어 메모리에 적재합니다.
+ */
+@Slf4j
+@Service
+public class HomeFeedService {
+
+    private static final String SNAPSHOT_KEY = "home-feed:snapshot";
+    private static final String BUILD_LOCK_KEY = "home-feed:build-lock";
+    private static final TypeReference<Map<String, HomeFeedSnapshot>> SNAPSHOT_MAP_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, Object> redisObjectTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int feedSize;
+    private final Duration snapshotTtl;
+
+    // 조합 키 -> 스냅샷 (갱신 시 맵 전체를 교체)
+    private volatile Map<String, HomeFeedSnapshot> snapshots = Map.of();
+
+    public HomeFeedService(
+            @Qualifier("redisObjectTemplate") RedisTemplate<String, Object> redisObjectTemplate,
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${campaign.home-feed.enabled:true}") boolean enabled,
+            @Value("${campaign.home-feed.size:50}") int feedSize,
+            @Value("${campaign.home-feed.ttl-seconds:300}") long snapshotTtlSeconds) {
+        this.redisObjectTemplate = redisObjectTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.feedSize = feedSize;
+        this.snapshotTtl = Duration.ofSeconds(snapshotTtlSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조합별로 미리 계산할 캠페인 수
+     */
+    public int getFeedSize() {
+        return feedSize;
+    }
+
+    /**
+     * 스냅샷 조합 키 (정렬 기준 + 카테고리 타입)
+     */
+    public static String feedKey(CampaignSortType sortType, CampaignCategory.CategoryType categoryType) {
+        return sortType.name() + ":" + (categoryType != null ? categoryType.name() : "ALL");
+    }
+
+    /**
+     * 스냅샷으로 응답할 수 있는 첫 페이지 요청이면 스냅샷에서 페이지를 구성합니다.
+     * 카테고리명/캠페인 타입/키워드 필터가 있거나, 첫 페이지가 아니거나, 스냅샷 크기보다 큰 요청은 제외합니다.
+     * @param page 0부터 시작하는 페이지 번호
+     */
+    public Optional<PageResponse<CampaignListSimpleResponse>> findFirstPage(CampaignFilterCondition condition,
+                                                                            int page, int size) {
+        return findFirstPageContent(condition, page, size)
+                .map(snapshot -> {
+                    List<CampaignListSimpleResponse> content = firstItems(snapshot, size);
+                    return PageResponse.from(new PageImpl<>(content, PageRequest.of(0, size), snapshot.getTotalElements()));
+                });
+    }
+
+    /**
+     * 스냅샷으로 응답할 수 있는 첫 페이지 요청이면 페이징 정보 없이 목록만 반환합니다.
+     */
+    public Optional<List<CampaignListSimpleResponse>> findFirstPageItems(CampaignFilterCondition condition,
+                                                                         int page, int size) {
+        return findFirstPageContent(condition, page, size)
+                .map(snapshot -> firstItems(snapshot, size));
+    }
+
+    /**
+     * 스냅샷 생성 권한 획득 - 여러 서버 중 한 곳에서만 DB 조회로 스냅샷을 생성하도록 합니다.
+     */
+    public boolean tryAcquireBuildLock(Duration lockTtl) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(BUILD_LOCK_KEY, "locked", lockTtl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            // Redis 장애 시에는 각 서버가 직접 생성
+            log.warn("홈 피드 생성 락 획득 실패, 로컬에서 생성합니다: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 새로 생성한 스냅샷을 메모리에 반영하고 Redis에 저장합니다.
+     */
+    public void publish(Map<String, HomeFeedSnapshot> newSnapshots) {
+        this.snapshots = Map.copyOf(newSnapshots);
+        try {
+            redisObjectTemplate.opsForValue().set(SNAPSHOT_KEY, newSnapshots, snapshotTtl);
+        } catch (Exception e) {
+            log.warn("홈 피드 스냅샷 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버가 생성한 스냅샷을 Redis에서 읽어 메모리에 반영합니다.
+     * @return 반영 여부
+     */
+    public boolean reloadFromRedis() {
+        try {
+            Object raw = redisObjectTemplate.opsForValue().get(SNAPSHOT_KEY);
+            if (raw == null) {
+                return false;
+            }
+            this.snapshots = Map.copyOf(objectMapper.convertValue(raw, SNAPSHOT_MAP_TYPE));
+            return true;
+        } catch (Exception e) {
+            log.warn("홈 피드 스냅샷 Redis 조회 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private Optional<HomeFeedSnapshot> findFirstPageContent(CampaignFilterCondition condition, int page, int size) {
+        if (!enabled || page != 0 || size <= 0 || size > feedSize) {
+            return Optional.empty();
+        }
+        if (condition.hasCategoryName() || condition.hasCampaignTypes() || condition.hasKeyword()
+                || !condition.isRecruitingFirst()) {
+            return Optional.empty();
+        }
+
+        HomeFeedSnapshot snapshot = snapshots.get(feedKey(condition.getSortType(), condition.getCategoryType()));
+        // 날짜가 바뀌면 모집 중/마감 구분이 달라지므로 새 스냅샷이 생성될 때까지 사용하지 않음
+        if (snapshot == null || !condition.getCurrentDate().equals(snapshot.getBaseDate())) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    private List<CampaignListSimpleResponse> firstItems(HomeFeedSnapshot snapshot, int size) {
+        List<CampaignListSimpleResponse> campaigns = snapshot.getCampaigns();
+        return campaigns.subList(0, Math.min(size, campaigns.size()));
+    }
+}
@@ -2,10 +2,12 @@ package com.example.auth.service;
 
 import com.example.auth.domain.Campaign;
 import com.example.auth.domain.User;
+import com.example.auth.event.CampaignChangedEvent;
 import com.example.auth.repository.CampaignRepository;
 import com.example.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -22,6 +24,7 @@ public class ImageProcessingService {
     private final UserRepository userRepository;
     private final CampaignRepository campaignRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Lambda 처리 완료 후 사용자 프로필 이미지 URL을 리사이징된 URL로 업데이트
@@ -96,6 +99,7 @@ public class ImageProcessingService {
             if (campaign != null) {
                 campaign.setThumbnailUrl(imageUrl);
                 campaignRepository.save(campaign);
+                eventPublisher.publishEvent(CampaignChangedEvent.thumbnailUpdated(campaignId));
                 log.info("캠페인 썸네일 이미지 URL 업데이트 완료: campaignId={}, url={}", campaignId, imageUrl);
             } else {
                 log.warn("캠페인을 찾을 수 없습니다: campaignId={}", campaignId);
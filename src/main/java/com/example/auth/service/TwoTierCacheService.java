@@ -0,0 +1,257 @@
+package com.example.auth.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 2단계(로컬 + Redis) 캐시 서비스
+ *
+ * L1은 서버 메모리의 크기/TTL 제한 캐시, L2는 redisObjectTemplate 기반 Redis 캐시입니다.
+ * 조회는 L1 → L2 → loader 순으로 진행하고, 무효화 시 L2를 삭제한 뒤 Redis Pub/Sub으로
+ * 무효화 메시지를 발행하여 모든 서버 노드가 자신의 L1 사본을 제거하도록 합니다.
+ * 무효화 시 Redis의 무효화 버전도 증가시키며, 조회 도중 버전이 바뀌었으면(다른 노드 포함) loader 결과를 저장하지 않아
+ * 커밋 이전에 시작된 조회가 무효화 이후에 이전 값을 다시 적재하지 않도록 합니다.
+ * Redis 장애 시에는 L1과 loader만으로 동작합니다.
+ */
+@Slf4j
+@Service
+public class TwoTierCacheService {
+
+    private static final String KEY_PREFIX = "cache:";
+    private static final String KEY_DELIMITER = "::";
+    private static final String ALL_KEYS = "*";
+    private static final String VERSION_KEY_PREFIX = "cache-version:";
+    private static final Duration VERSION_TTL = Duration.ofHours(1);  // 조회 시간보다 충분히 길게 유지
+
+    private final RedisTemplate<String, Object> redisObjectTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, Object> localCache;
+    private final ChannelTopic invalidationTopic;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 캐시 키(및 캐시 이름 전체)별 L1 무효화 횟수 - 조회 도중 해당 키가 무효화된 결과를 L1에 넣지 않기 위해 사용
+    private final Cache<String, Long> localVersions = Caffeine.newBuilder()
+            .expireAfterWrite(VERSION_TTL)
+            .build();
+
+    public TwoTierCacheService(
+            @Qualifier("redisObjectTemplate") RedisTemplate<String, Object> redisObjectTemplate,
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${cache.two-tier.local-max-size:2000}") long localMaxSize,
+            @Value("${cache.two-tier.local-ttl-seconds:30}") long localTtlSeconds,
+            @Value("${cache.two-tier.invalidation-channel:cache:invalidation}") String invalidationChannel) {
+        this.redisObjectTemplate = redisObjectTemplate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.invalidationTopic = new ChannelTopic(invalidationChannel);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 구독
+     */
+    @PostConstruct
+    public void subscribeInvalidation() {
+        listenerContainer.addMessageListener(
+                (Message message, byte[] pattern) -> onInvalidationMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                invalidationTopic);
+        log.info("2단계 캐시 무효화 채널 구독 - channel: {}, nodeId: {}", invalidationTopic.getTopic(), nodeId);
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 loader로 조회한 값을 L1/L2에 저장합니다.
+     * loader 결과가 null이거나 조회 도중 해당 키가 무효화되었으면 저장하지 않습니다.
+     * @param cacheName 캐시 이름 (예: banners, campaign-detail)
+     * @param key 캐시 이름 내의 키
+     * @param ttl L2(Redis) 보관 시간
+     * @param type 값 타입 (L2에서 읽은 JSON을 변환할 때 사용)
+     * @param loader 실제 조회 로직
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, String key, Duration ttl, TypeReference<T> type, Supplier<T> loader) {
+        String cacheKey = toCacheKey(cacheName, key);
+
+        Object local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            return (T) local;
+        }
+
+        List<Long> localVersionBeforeLoad = readLocalVersions(cacheName, key);
+        T cached = readRedis(cacheKey, type);
+        if (cached != null) {
+            if (localVersionBeforeLoad.equals(readLocalVersions(cacheName, key))) {
+                localCache.put(cacheKey, cached);
+            }
+            return cached;
+        }
+
+        List<String> versionBeforeLoad = readVersions(cacheName, key);
+        T value = loader.get();
+        if (value == null || !localVersionBeforeLoad.equals(readLocalVersions(cacheName, key))) {
+            return value;
+        }
+
+        // 조회 중에 다른 노드에서 무효화가 있었다면 이전 데이터일 수 있으므로 저장하지 않음
+        if (versionBeforeLoad != null && versionBeforeLoad.equals(readVersions(cacheName, key))) {
+            localCache.put(cacheKey, value);
+            writeRedis(cacheKey, value, ttl);
+        }
+        return value;
+    }
+
+    /**
+     * 특정 키를 모든 노드에서 무효화합니다.
+     * 데이터 변경이 커밋된 이후에 호출해야 다른 노드가 이전 값을 다시 적재하지 않습니다.
+     */
+    public void evict(String cacheName, String key) {
+        String cacheKey = toCacheKey(cacheName, key);
+        evictLocal(cacheName, key);
+        try {
+            increaseVersion(toVersionKey(cacheName, key));
+            redisObjectTemplate.delete(cacheKey);
+        } catch (Exception e) {
+            log.warn("L2 캐시 삭제 실패 - key: {}, error: {}", cacheKey, e.getMessage());
+        }
+        publishInvalidation(cacheName, key);
+    }
+
+    /**
+     * 캐시 이름에 속한 모든 키를 모든 노드에서 무효화합니다.
+     */
+    public void evictAll(String cacheName) {
+        evictLocal(cacheName, ALL_KEYS);
+        try {
+            increaseVersion(toVersionKey(cacheName, ALL_KEYS));
+            // 운영 Redis를 막지 않도록 KEYS 대신 SCAN으로 대상 키 수집
+            List<String> keys = redisObjectTemplate.execute(connection -> {
+                List<String> found = new ArrayList<>();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(
+                        ScanOptions.scanOptions()
+                                .match(KEY_PREFIX + cacheName + KEY_DELIMITER + "*")
+                                .count(500)
+                                .build())) {
+                    cursor.forEachRemaining(k -> found.add(new String(k, StandardCharsets.UTF_8)));
+                }
+                return found;
+            }, true);
+            if (keys != null && !keys.isEmpty()) {
+                redisObjectTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            log.warn("L2 캐시 전체 삭제 실패 - cacheName: {}, error: {}", cacheName, e.getMessage());
+        }
+        publishInvalidation(cacheName, ALL_KEYS);
+    }
+
+    /**
+     * 캐시 이름 전체와 키의 무효화 버전을 조회합니다.
+     * @return Redis 조회에 실패하면 null (이 경우 L2에 저장하지 않음)
+     */
+    private List<String> readVersions(String cacheName, String key) {
+        try {
+            return redisTemplate.opsForValue().multiGet(List.of(
+                    toVersionKey(cacheName, ALL_KEYS), toVersionKey(cacheName, key)));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 버전 조회 실패 - cacheName: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<Long> readLocalVersions(String cacheName, String key) {
+        return List.of(
+                localVersions.asMap().getOrDefault(toCacheKey(cacheName, ALL_KEYS), 0L),
+                localVersions.asMap().getOrDefault(toCacheKey(cacheName, key), 0L));
+    }
+
+    private void increaseVersion(String versionKey) {
+        redisTemplate.opsForValue().increment(versionKey);
+        redisTemplate.expire(versionKey, VERSION_TTL);
+    }
+
+    private <T> T readRedis(String cacheKey, TypeReference<T> type) {
+        try {
+            Object raw = redisObjectTemplate.opsForValue().get(cacheKey);
+            return raw != null ? objectMapper.convertValue(raw, type) : null;
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패 - key: {}, error: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String cacheKey, Object value, Duration ttl) {
+        try {
+            redisObjectTemplate.opsForValue().set(cacheKey, value, ttl);
+        } catch (Exception e) {
+            log.warn("L2 캐시 저장 실패 - key: {}, error: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(invalidationTopic.getTopic(), String.join("|", nodeId, cacheName, key));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - cacheName: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private void onInvalidationMessage(String body) {
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("알 수 없는 캐시 무효화 메시지: {}", body);
+            return;
+        }
+        // 자신이 발행한 메시지는 이미 로컬에서 처리함
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        evictLocal(parts[1], parts[2]);
+        log.debug("다른 노드 요청으로 L1 캐시 무효화 - cacheName: {}, key: {}", parts[1], parts[2]);
+    }
+
+    private void evictLocal(String cacheName, String key) {
+        localVersions.asMap().merge(toCacheKey(cacheName, key), 1L, Long::sum);
+        if (ALL_KEYS.equals(key)) {
+            String prefix = KEY_PREFIX + cacheName + KEY_DELIMITER;
+            localCache.asMap().keySet().removeIf(k -> k.startsWith(prefix));
+        } else {
+            localCache.invalidate(toCacheKey(cacheName, key));
+        }
+    }
+
+    private String toCacheKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + KEY_DELIMITER + key;
+    }
+
+    private String toVersionKey(String cacheName, String key) {
+        return VERSION_KEY_PREFIX + cacheName + KEY_DELIMITER + key;
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.auth.service;
 
+import com.example.auth.constant.ApplicationStatus;
 import com.example.auth.domain.User;
 import com.example.auth.dto.KakaoUserInfo;
 import com.example.auth.dto.UserLoginResult;
+import com.example.auth.event.CampaignChangedEvent;
+import com.example.auth.event.UserChangedEvent;
 import com.example.auth.repository.UserRepository;
 import com.example.auth.repository.CampaignRepository;
 import com.example.auth.repository.CampaignApplicationRepository;
 import com.example.auth.repository.UserSnsPlatformRepository;
 import com.example.auth.repository.CompanyRepository;
+import com.example.auth.repository.VisitLocationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +32,9 @@ public class UserService {
     private final CampaignApplicationRepository campaignApplicationRepository;
     private final UserSnsPlatformRepository userSnsPlatformRepository;
     private final CompanyRepository companyRepository;
+    private final VisitLocationRepository visitLocationRepository;
+    private final CampaignApplicantCountService applicantCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // UserService.java
     public UserLoginResult findOrCreateUser(String provider, KakaoUserInfo info) {
@@ -172,6 +180,7 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("사용자 정보를 찾을 수 없습니다."));
         
         user.updateRole(role);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, UserChangedEvent.ChangeType.ROLE_UPDATED));
         return userRepository.save(user);
     }
     
@@ -187,8 +196,13 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("사용자 정보를 찾을 수 없습니다."));
         
         log.info("회원 탈퇴 처리 시작: userId={}, role={}", userId, user.getRole());
+        eventPublisher.publishEvent(new UserChangedEvent(userId, UserChangedEvent.ChangeType.DELETED));
         
-        // 1. 사용자가 신청한 캠페인 신청 내역 삭제
+        // 1. 사용자가 신청한 캠페인 신청 내역 삭제 (대기 중이던 신청은 캠페인별 신청자 수 카운터에서 차감)
+        for (Object[] row : campaignApplicationRepository.countByUserIdAndApplicationStatusGroupByCampaign(
+                userId, ApplicationStatus.PENDING)) {
+            applicantCountService.decrease((Long) row[0], ((Long) row[1]).intValue());
+        }
         campaignApplicationRepository.deleteByUserId(userId);
         log.info("캠페인 신청 내역 삭제 완료: userId={}", userId);
         
@@ -201,14 +215,16 @@ public class UserService {
         if (!userCampaigns.isEmpty()) {
             log.info("사용자가 생성한 캠페인 {}개 삭제 시작", userCampaigns.size());
             
-            // 각 캠페인의 신청 내역들을 먼저 삭제
+            // 각 캠페인의 신청 내역과 방문 위치를 먼저 삭제하고, 커밋 이후 색인/캐시에서 제거되도록 이벤트 발행
             for (var campaign : userCampaigns) {
                 campaignApplicationRepository.deleteByCampaignId(campaign.getId());
+                visitLocationRepository.deleteByCampaignId(campaign.getId());
+                eventPublisher.publishEvent(CampaignChangedEvent.deleted(campaign));
             }
             
             // 그 다음 캠페인들 삭제
             campaignRepository.deleteAll(userCampaigns);
-            log.info("캠페인 및 관련 신청 내역 삭제 완료: userId={}", userId);
+            log.info("캠페인 및 관련 신청 내역/방문 위치 삭제 완료: userId={}", userId);
         }
         
         // 4. CLIENT 권한 사용자인 경우 업체 정보 삭제
@@ -0,0 +1,205 @@
+package com.example.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지도 마커 클러스터 서비스
+ *
+ * 방문 위치를 지도 줌 레벨별 격자에 미리 집계해 두고(셀마다 위치 수와 좌표 합계),
+ * 지도 화면의 영역 요청에 메모리에서 바로 클러스터 목록을 응답합니다.
+ * 격자는 웹 지도 타일(256px)을 64px 단위로 나눈 크기라 줌 레벨과 무관하게 화면상 마커 간격이 일정합니다.
+ * 위치 추가/삭제는 {@link VisitLocationGeoIndexService}가 색인 갱신 시 함께 반영합니다.
+ */
+@Slf4j
+@Service
+public class VisitLocationClusterService {
+
+    public static final int MIN_ZOOM = 5;
+    public static final int MAX_ZOOM = 17;
+    private static final int CELLS_PER_TILE = 4;  // 타일 한 변을 4칸으로 분할 (64px 셀)
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Map<Long, ClusterCell>> levels = new ArrayList<>();  // 줌 레벨별 셀 키 -> 집계
+
+    public VisitLocationClusterService() {
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 전체 위치로 모든 줌 레벨의 클러스터를 다시 집계합니다.
+     */
+    public void rebuild(Collection<ClusterPoint> points) {
+        List<Map<Long, ClusterCell>> newLevels = new ArrayList<>();
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            Map<Long, ClusterCell> cells = new HashMap<>();
+            for (ClusterPoint point : points) {
+                cells.computeIfAbsent(cellKey(zoom, point.latitude(), point.longitude()), key -> new ClusterCell())
+                        .add(point, 1);
+            }
+            newLevels.add(cells);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < newLevels.size(); i++) {
+                levels.set(i, newLevels.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("지도 클러스터 집계 완료 - 위치: {}개, 줌 레벨: {}~{}", points.size(), MIN_ZOOM, MAX_ZOOM);
+    }
+
+    /**
+     * 위치 하나를 모든 줌 레벨에 추가합니다.
+     */
+    public void add(ClusterPoint point) {
+        apply(point, 1);
+    }
+
+    /**
+     * 위치 하나를 모든 줌 레벨에서 제거합니다.
+     */
+    public void remove(ClusterPoint point) {
+        apply(point, -1);
+    }
+
+    /**
+     * 지도 영역 안의 클러스터 목록을 반환합니다.
+     * @param zoom 지도 줌 레벨 (지원 범위를 벗어나면 가장 가까운 레벨 사용)
+     */
+    public List<Cluster> findClusters(int zoom, double southLatitude, double westLongitude,
+                                      double northLatitude, double eastLongitude) {
+        int level = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        long minX = cellX(level, westLongitude);
+        long maxX = cellX(level, eastLongitude);
+        long minY = cellY(level, northLatitude);  // 타일 Y는 북쪽이 작음
+        long maxY = cellY(level, southLatitude);
+
+        List<Cluster> clusters = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, ClusterCell> cells = levels.get(level - MIN_ZOOM);
+            long cellCount = (maxX - minX + 1) * (maxY - minY + 1);
+            if (cellCount <= cells.size()) {
+                // 화면 영역이 작으면 영역 안의 셀만 확인
+                for (long x = minX; x <= maxX; x++) {
+                    for (long y = minY; y <= maxY; y++) {
+                        ClusterCell cell = cells.get(cellKey(x, y));
+                        if (cell != null) {
+                            clusters.add(cell.toCluster());
+                        }
+                    }
+                }
+            } else {
+                // 영역이 집계된 셀 수보다 넓으면 전체 셀을 훑는 편이 빠름
+                for (Map.Entry<Long, ClusterCell> entry : cells.entrySet()) {
+                    long x = entry.getKey() >> 32;
+                    long y = entry.getKey() & 0xFFFFFFFFL;
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        clusters.add(entry.getValue().toCluster());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return clusters;
+    }
+
+    private void apply(ClusterPoint point, int delta) {
+        lock.writeLock().lock();
+        try {
+            for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+                Map<Long, ClusterCell> cells = levels.get(zoom - MIN_ZOOM);
+                long key = cellKey(zoom, point.latitude(), point.longitude());
+                ClusterCell cell = cells.computeIfAbsent(key, k -> new ClusterCell());
+                cell.add(point, delta);
+                if (cell.count <= 0) {
+                    cells.remove(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long cellKey(int zoom, double latitude, double longitude) {
+        return cellKey(cellX(zoom, longitude), cellY(zoom, latitude));
+    }
+
+    private static long cellKey(long x, long y) {
+        return (x << 32) | y;
+    }
+
+    // 웹 메르카토르 타일 좌표 기준 셀 X
+    private static long cellX(int zoom, double longitude) {
+        double cellsPerSide = gridSize(zoom);
+        double x = (longitude + 180) / 360 * cellsPerSide;
+        return clampCell(x, cellsPerSide);
+    }
+
+    // 웹 메르카토르 타일 좌표 기준 셀 Y
+    private static long cellY(int zoom, double latitude) {
+        double cellsPerSide = gridSize(zoom);
+        double clamped = Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude));
+        double radians = Math.toRadians(clamped);
+        double y = (1 - Math.log(Math.tan(radians) + 1 / Math.cos(radians)) / Math.PI) / 2 * cellsPerSide;
+        return clampCell(y, cellsPerSide);
+    }
+
+    private static double gridSize(int zoom) {
+        return (double) (1L << zoom) * CELLS_PER_TILE;
+    }
+
+    private static long clampCell(double value, double cellsPerSide) {
+        return (long) Math.max(0, Math.min(cellsPerSide - 1, Math.floor(value)));
+    }
+
+    /**
+     * 클러스터 집계 대상 위치
+     */
+    public record ClusterPoint(Long campaignId, double latitude, double longitude) {
+    }
+
+    /**
+     * 클러스터 - 셀에 속한 위치 수와 중심 좌표
+     * @param campaignId 위치가 하나뿐인 셀이면 해당 캠페인 ID, 아니면 null
+     */
+    public record Cluster(double latitude, double longitude, int count, Long campaignId) {
+    }
+
+    /**
+     * 셀 집계 값 - 합계만 보관하므로 추가/삭제를 O(1)로 반영할 수 있습니다.
+     * 위치가 하나일 때는 합계가 곧 해당 위치의 좌표와 캠페인 ID입니다.
+     */
+    private static class ClusterCell {
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private long campaignIdSum;
+
+        private void add(ClusterPoint point, int delta) {
+            count += delta;
+            latitudeSum += point.latitude() * delta;
+            longitudeSum += point.longitude() * delta;
+            campaignIdSum += point.campaignId() * delta;
+        }
+
+        private Cluster toCluster() {
+            return new Cluster(latitudeSum / count, longitudeSum / count, count, count == 1 ? campaignIdSum : null);
+        }
+    }
+}
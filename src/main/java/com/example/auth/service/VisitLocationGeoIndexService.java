@@ -0,0 +1,236 @@
+package com.example.auth.service;
+
+import com.example.auth.event.CampaignChangedEvent;
+import com.example.auth.repository.VisitLocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 방문 위치 공간 색인 서비스
+ *
+ * 방문 위치 좌표를 위도/경도 격자(geohash와 같은 방식의 고정 크기 셀)에 나누어 메모리에 보관합니다.
+ * 반경 검색은 원을 감싸는 셀만 확인한 뒤 하버사인 거리로 거르므로 테이블을 조회하지 않습니다.
+ * 시작 시 전체 색인을 만들고, 캠페인 생성/수정 시 해당 캠페인의 위치만 다시 색인합니다.
+ * 색인이 바뀔 때 지도 마커 클러스터({@link VisitLocationClusterService})에도 같은 변경을 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VisitLocationGeoIndexService {
+
+    private static final double CELL_SIZE_DEGREES = 0.02;  // 약 2.2km (위도 기준)
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final long CELL_KEY_OFFSET = 100_000;
+
+    private final VisitLocationRepository visitLocationRepository;
+    private final VisitLocationClusterService clusterService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, List<IndexedLocation>> cells = new HashMap<>();  // 셀 키 -> 위치 목록
+    private Map<Long, List<IndexedLocation>> locationsByCampaign = new HashMap<>();  // 캠페인 ID -> 위치 목록
+    private volatile boolean ready = false;
+
+    // 전체 구성 중 다시 색인된 캠페인 - 구성 시작 시점에 읽은 데이터로 교체되면서 덮어쓰이므로 교체 후 다시 반영
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding = false;
+
+    /**
+     * 전체 방문 위치로 색인을 새로 구성합니다.
+     */
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            Map<Long, List<IndexedLocation>> newCells = new HashMap<>();
+            Map<Long, List<IndexedLocation>> newLocationsByCampaign = new HashMap<>();
+            for (Object[] row : visitLocationRepository.findAllGeoIndexRows()) {
+                IndexedLocation location = toLocation(row);
+                newCells.computeIfAbsent(cellKey(location.latitude(), location.longitude()), key -> new ArrayList<>()).add(location);
+                newLocationsByCampaign.computeIfAbsent(location.campaignId(), key -> new ArrayList<>()).add(location);
+            }
+
+            lock.writeLock().lock();
+            try {
+                cells = newCells;
+                locationsByCampaign = newLocationsByCampaign;
+                clusterService.rebuild(newLocationsByCampaign.values().stream()
+                        .flatMap(List::stream)
+                        .map(IndexedLocation::toClusterPoint)
+                        .toList());
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("방문 위치 공간 색인 구성 완료 - 캠페인: {}개, 셀: {}개, 소요 시간: {}ms",
+                    newLocationsByCampaign.size(), newCells.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            rebuilding = false;
+        }
+
+        // 구성 중 변경된 캠페인은 새 색인에 다시 반영
+        for (Long campaignId : Set.copyOf(changedDuringRebuild)) {
+            reindex(campaignId);
+        }
+        changedDuringRebuild.clear();
+    }
+
+    /**
+     * 캠페인 하나의 방문 위치를 다시 색인합니다.
+     */
+    public void reindex(Long campaignId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(campaignId);
+        }
+
+        List<IndexedLocation> locations = visitLocationRepository.findGeoIndexRowsByCampaignId(campaignId).stream()
+                .map(this::toLocation)
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            List<IndexedLocation> previous = locationsByCampaign.remove(campaignId);
+            if (previous != null) {
+                for (IndexedLocation location : previous) {
+                    long key = cellKey(location.latitude(), location.longitude());
+                    List<IndexedLocation> cell = cells.get(key);
+                    if (cell != null) {
+                        cell.removeIf(indexed -> indexed.locationId().equals(location.locationId()));
+                        if (cell.isEmpty()) {
+                            cells.remove(key);
+                        }
+                    }
+                    clusterService.remove(location.toClusterPoint());
+                }
+            }
+            if (!locations.isEmpty()) {
+                locationsByCampaign.put(campaignId, new ArrayList<>(locations));
+                for (IndexedLocation location : locations) {
+                    cells.computeIfAbsent(cellKey(location.latitude(), location.longitude()), key -> new ArrayList<>()).add(location);
+                    clusterService.add(location.toClusterPoint());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        if (event.getChangeType() == CampaignChangedEvent.ChangeType.THUMBNAIL_UPDATED) {
+            return;
+        }
+        try {
+            reindex(event.getCampaignId());
+        } catch (Exception e) {
+            log.warn("방문 위치 색인 갱신 실패 - campaignId: {}, error: {}", event.getCampaignId(), e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 반경 내 방문 위치가 있는 캠페인을 가까운 순으로 반환합니다.
+     * 캠페인에 위치가 여러 개면 가장 가까운 위치를 기준으로 합니다.
+     * @param radiusMeters 검색 반경 (미터)
+     */
+    public List<NearbyCampaign> findNearby(double latitude, double longitude, double radiusMeters) {
+        // 반경을 감싸는 위도/경도 범위 (경도 간격은 위도가 높을수록 좁아짐)
+        double latitudeDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double cosLatitude = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        double longitudeDelta = Math.min(180, latitudeDelta / cosLatitude);
+
+        long minLatCell = cellIndex(latitude - latitudeDelta);
+        long maxLatCell = cellIndex(latitude + latitudeDelta);
+        long minLngCell = cellIndex(longitude - longitudeDelta);
+        long maxLngCell = cellIndex(longitude + longitudeDelta);
+
+        Map<Long, NearbyCampaign> nearestByCampaign = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                    List<IndexedLocation> cell = cells.get(cellKey(latCell, lngCell));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (IndexedLocation location : cell) {
+                        double distance = haversineMeters(latitude, longitude, location.latitude(), location.longitude());
+                        if (distance > radiusMeters) {
+                            continue;
+                        }
+                        nearestByCampaign.merge(location.campaignId(),
+                                new NearbyCampaign(location.campaignId(), distance, location.address()),
+                                (current, candidate) -> candidate.distanceMeters() < current.distanceMeters() ? candidate : current);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<NearbyCampaign> result = new ArrayList<>(nearestByCampaign.values());
+        result.sort(Comparator.comparingDouble(NearbyCampaign::distanceMeters)
+                .thenComparing(NearbyCampaign::campaignId));
+        return result;
+    }
+
+    private IndexedLocation toLocation(Object[] row) {
+        return new IndexedLocation(
+                (Long) row[0],
+                (Long) row[1],
+                ((BigDecimal) row[2]).doubleValue(),
+                ((BigDecimal) row[3]).doubleValue(),
+                (String) row[4]);
+    }
+
+    private static long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private static long cellKey(long latCell, long lngCell) {
+        return latCell * CELL_KEY_OFFSET + lngCell;
+    }
+
+    private static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경 검색 결과 - 캠페인과 가장 가까운 방문 위치까지의 거리
+     */
+    public record NearbyCampaign(Long campaignId, double distanceMeters, String address) {
+    }
+
+    private record IndexedLocation(Long locationId, Long campaignId, double latitude, double longitude, String address) {
+
+        private VisitLocationClusterService.ClusterPoint toClusterPoint() {
+            return new VisitLocationClusterService.ClusterPoint(campaignId, latitude, longitude);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.auth.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 만료 시각이 가까운 작업은 1단계 휠(tick 단위 버킷)에, 먼 작업은 상위 휠(하위 휠 한 바퀴가 1 tick)에 넣고,
+ * 시간이 흘러 상위 휠의 버킷에 도달하면 그 안의 작업을 하위 휠로 내려 보냅니다.
+ * 등록/만료 처리 비용이 작업 수와 무관하게 일정하여 많은 예약 작업을 메모리에서 다루는 데 적합합니다.
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ * @param <T> 예약 작업 타입
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;  // 휠 한 바퀴가 담는 시간
+    private final List<List<Entry<T>>> buckets;
+    private long currentTime;  // tick 단위로 내림한 현재 시각
+    private HierarchicalTimingWheel<T> overflowWheel;  // 상위 휠 (필요할 때 생성)
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tick은 0보다 크고 휠 크기는 1보다 커야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = tickMillis * wheelSize;
+        this.currentTime = startMillis - (startMillis % tickMillis);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * 작업을 예약합니다.
+     * @return 이미 만료 시각이 지나 예약하지 않은 경우 false (호출하는 쪽에서 바로 실행)
+     */
+    public boolean add(long expirationMillis, T item) {
+        return add(new Entry<>(expirationMillis, item));
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행하고, 만료된 작업을 만료 순서대로 반환합니다.
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        while (currentTime + tickMillis <= nowMillis) {
+            // 지나간 tick의 버킷에 있는 작업은 모두 만료
+            List<Entry<T>> bucket = buckets.get(bucketIndex(currentTime));
+            for (Entry<T> entry : bucket) {
+                expired.add(entry.item());
+            }
+            bucket.clear();
+
+            currentTime += tickMillis;
+            if (overflowWheel != null) {
+                overflowWheel.cascade(currentTime, this, expired);
+            }
+        }
+        return expired;
+    }
+
+    private boolean add(Entry<T> entry) {
+        if (entry.expirationMillis() < currentTime + tickMillis) {
+            return false;
+        }
+        if (entry.expirationMillis() < currentTime + intervalMillis) {
+            buckets.get(bucketIndex(entry.expirationMillis())).add(entry);
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new HierarchicalTimingWheel<>(intervalMillis, wheelSize, currentTime);
+        }
+        return overflowWheel.add(entry);
+    }
+
+    /**
+     * 하위 휠의 시각이 이 휠의 다음 버킷 구간에 들어서면 해당 버킷의 작업을 최하위 휠부터 다시 배치합니다.
+     */
+    private void cascade(long lowerWheelTime, HierarchicalTimingWheel<T> rootWheel, List<T> expired) {
+        while (currentTime + tickMillis <= lowerWheelTime) {
+            currentTime += tickMillis;
+            List<Entry<T>> bucket = buckets.get(bucketIndex(currentTime));
+            List<Entry<T>> entries = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<T> entry : entries) {
+                if (!rootWheel.add(entry)) {
+                    expired.add(entry.item());
+                }
+            }
+            if (overflowWheel != null) {
+                overflowWheel.cascade(currentTime, rootWheel, expired);
+            }
+        }
+    }
+
+    private int bucketIndex(long timeMillis) {
+        return (int) ((timeMillis / tickMillis) % wheelSize);
+    }
+
+    private record Entry<T>(long expirationMillis, T item) {
+    }
+}
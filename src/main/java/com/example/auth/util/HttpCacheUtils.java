@@ -0,0 +1,40 @@
+package com.example.auth.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP 조건부 요청(ETag / Last-Modified) 유틸리티
+ *
+ * ResponseEntity에 ETag나 Last-Modified를 설정해 두면 Spring MVC가 If-None-Match / If-Modified-Since를
+ * 비교하여 변경이 없을 때 본문 직렬화 없이 304 Not Modified로 응답합니다.
+ */
+public final class HttpCacheUtils {
+
+    private HttpCacheUtils() {
+    }
+
+    /**
+     * 클라이언트가 저장은 하되 사용할 때마다 재검증하도록 하는 Cache-Control
+     */
+    public static CacheControl revalidate() {
+        return CacheControl.noCache();
+    }
+
+    /**
+     * 리소스 버전을 구성하는 값들로 강한(strong) ETag를 생성합니다.
+     * @param versionParts 값이 바뀌면 응답 내용도 바뀌는 항목들 (ID, 수정 시간, 내용 등)
+     * @return 따옴표로 감싼 ETag 값
+     */
+    public static String strongETag(Object... versionParts) {
+        String source = Arrays.stream(versionParts)
+                .map(part -> Objects.toString(part, ""))
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
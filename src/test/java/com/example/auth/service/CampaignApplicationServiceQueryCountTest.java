@@ -0,0 +1,149 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.ApplicationStatus;
+import com.example.auth.domain.Campaign;
+import com.example.auth.domain.CampaignApplication;
+import com.example.auth.domain.CampaignCategory;
+import com.example.auth.domain.User;
+import com.example.auth.domain.UserSnsPlatform;
+import com.example.auth.dto.common.PageResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캠페인 신청자 목록 조회의 쿼리 수 회귀 테스트
+ * 페이지 크기와 관계없이 같은 수의 SQL만 실행되어야 합니다. (신청자/SNS 플랫폼 N+1 방지)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.jakarta.persistence.schema-generation.create-source=script-then-metadata",
+        "spring.jpa.properties.jakarta.persistence.schema-generation.create-script-source=h2/campaigns.sql"
+})
+@Import(CampaignApplicationService.class)
+class CampaignApplicationServiceQueryCountTest {
+
+    private static final int APPLICANT_COUNT = 60;
+
+    @Autowired
+    private CampaignApplicationService applicationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private CampaignApplicantCountService applicantCountService;
+
+    @MockBean
+    private ApplicationIntakeLookupService intakeLookupService;
+
+    @MockBean
+    private CampaignApplicationQueueService applicationQueueService;
+
+    private Long campaignId;
+    private Long clientUserId;
+
+    @BeforeEach
+    void setUp() {
+        User client = entityManager.persist(user("client", "CLIENT"));
+        CampaignCategory category = entityManager.persist(CampaignCategory.builder()
+                .categoryType(CampaignCategory.CategoryType.배송)
+                .categoryName("식품")
+                .build());
+        LocalDate today = LocalDate.now();
+        Campaign campaign = entityManager.persist(Campaign.builder()
+                .creator(client)
+                .category(category)
+                .campaignType("인스타그램")
+                .title("쿼리 수 확인용 캠페인")
+                .productShortInfo("시식 제품")
+                .productDetails("시식 제품 상세")
+                .maxApplicants(100)
+                .recruitmentStartDate(today)
+                .recruitmentEndDate(today.plusDays(7))
+                .applicationDeadlineDate(today.plusDays(7))
+                .selectionDate(today.plusDays(8))
+                .reviewDeadlineDate(today.plusDays(20))
+                .build());
+
+        for (int i = 0; i < APPLICANT_COUNT; i++) {
+            User applicant = entityManager.persist(user("applicant-" + i, "USER"));
+            entityManager.persist(UserSnsPlatform.builder()
+                    .user(applicant)
+                    .platformType("INSTAGRAM")
+                    .accountUrl("https://instagram.com/applicant" + i)
+                    .followerCount(100 + i)
+                    .build());
+            entityManager.persist(UserSnsPlatform.builder()
+                    .user(applicant)
+                    .platformType("BLOG")
+                    .accountUrl("https://blog.example.com/applicant" + i)
+                    .build());
+            entityManager.persist(CampaignApplication.builder()
+                    .campaign(campaign)
+                    .user(applicant)
+                    .applicationStatus(ApplicationStatus.PENDING)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        campaignId = campaign.getId();
+        clientUserId = client.getId();
+    }
+
+    @Test
+    void getCampaignApplicants_runsSameStatementCountRegardlessOfPageSize() {
+        long singleRowPageStatements = countStatements(1);
+        long fullPageStatements = countStatements(50);
+
+        assertThat(fullPageStatements).isEqualTo(singleRowPageStatements);
+    }
+
+    @Test
+    void getCampaignApplicants_withStatusFilter_runsSameStatementCountRegardlessOfPageSize() {
+        long singleRowPageStatements = countStatements(1, "pending");
+        long fullPageStatements = countStatements(50, "pending");
+
+        assertThat(fullPageStatements).isEqualTo(singleRowPageStatements);
+    }
+
+    private long countStatements(int size) {
+        return countStatements(size, null);
+    }
+
+    private long countStatements(int size, String applicationStatus) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+
+        PageResponse<?> response = applicationService.getCampaignApplicants(campaignId, clientUserId, 0, size, applicationStatus);
+
+        assertThat(response.getContent()).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static User user(String socialId, String role) {
+        return User.builder()
+                .provider("test")
+                .socialId(socialId)
+                .email(socialId + "@example.com")
+                .nickname(socialId)
+                .role(role)
+                .build();
+    }
+}
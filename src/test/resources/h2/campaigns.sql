@@ -0,0 +1,2 @@
+-- H2는 PostgreSQL의 TEXT[] 컬럼 정의를 해석하지 못하므로 campaigns 테이블만 미리 생성합니다. (나머지는 엔티티 기준으로 생성)
+create table campaigns (application_deadline_date date not null, current_applicants INTEGER DEFAULT 0 not null, max_applicants integer not null, recruitment_end_date date not null, recruitment_start_date date not null, recruitment_status SMALLINT DEFAULT 0 not null, review_deadline_date date not null, selection_date date not null, approval_date TIMESTAMP WITH TIME ZONE, approved_by bigint, category_id bigint not null, company_id bigint, created_at TIMESTAMP WITH TIME ZONE, creator_id bigint not null, id bigint generated by default as identity, updated_at TIMESTAMP WITH TIME ZONE, approval_status varchar(20) not null, lifecycle_phase varchar(20), campaign_type varchar(50) not null, product_short_info varchar(50) not null, title varchar(200) not null, approval_comment TEXT, mission_guide TEXT, product_details TEXT not null, selection_criteria TEXT, thumbnail_url TEXT, mission_keywords VARCHAR ARRAY, primary key (id));